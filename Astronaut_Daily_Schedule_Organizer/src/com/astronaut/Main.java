@@ -1,13 +1,29 @@
 package com.astronaut;
 
+import com.astronaut.loader.ImportSummary;
+import com.astronaut.loader.ScheduleLoader;
+import com.astronaut.manager.ScheduleManager;
 import com.astronaut.menu.MenuManager;
+import com.astronaut.persistence.ScheduleJournal;
+import com.astronaut.util.BackpressurePolicy;
 import com.astronaut.util.Logger;
+import java.nio.file.Paths;
 import java.util.Scanner;
 
 public class Main {
+    private static final int LOG_QUEUE_CAPACITY = 8192;
+    private static final String DATA_DIRECTORY = "data";
+    
     public static void main(String[] args) {
         Logger logger = Logger.getInstance();
+        logger.enableAsyncMode(LOG_QUEUE_CAPACITY, BackpressurePolicy.BLOCK);
         logger.info("Astronaut Daily Schedule Organizer started");
+        ScheduleManager.getInstance().enablePersistence(DATA_DIRECTORY, ScheduleJournal.SyncMode.GROUP_COMMIT);
+        
+        if (args.length > 0 && args[0].equals("--import")) {
+            runImport(args, logger);
+            return;
+        }
         
         System.out.println("╔═══════════════════════════════════════════════════╗");
         System.out.println("║   ASTRONAUT DAILY SCHEDULE ORGANIZER              ║");
@@ -21,13 +37,40 @@ public class Main {
         try {
             menuManager.run();
         } catch (Exception e) {
-            logger.error("Critical error: " + e.getMessage());
+            logger.error("Critical error: %s", e.getMessage());
             System.err.println("⚠ Application encountered a critical error. Please check logs.");
             e.printStackTrace();
         } finally {
             scanner.close();
+            ScheduleManager.getInstance().closePersistence();
             logger.info("Application stopped");
+            logger.shutdown();
             System.out.println("\n✓ Thank you for using Astronaut Schedule Organizer!");
         }
     }
+    
+    private static void runImport(String[] args, Logger logger) {
+        if (args.length < 2) {
+            System.err.println("Usage: java -cp src com.astronaut.Main --import <file.csv|file.jsonl>");
+            ScheduleManager.getInstance().closePersistence();
+            logger.shutdown();
+            return;
+        }
+        
+        try {
+            ScheduleLoader loader = new ScheduleLoader(ScheduleManager.getInstance());
+            ImportSummary summary = loader.load(Paths.get(args[1]));
+            System.out.println("✓ Import complete: " + summary);
+            for (String problem : summary.getProblems()) {
+                System.out.println("   " + problem);
+            }
+        } catch (Exception e) {
+            logger.error("Import failed: %s", e.getMessage());
+            System.err.println("✗ Import failed: " + e.getMessage());
+        } finally {
+            ScheduleManager.getInstance().closePersistence();
+            logger.info("Application stopped");
+            logger.shutdown();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.astronaut.benchmark;
+
+import com.astronaut.manager.ScheduleManager;
+import com.astronaut.model.BatchResult;
+import com.astronaut.model.PlacementRequest;
+import com.astronaut.model.Task;
+import com.astronaut.util.LogLevel;
+import com.astronaut.util.Logger;
+import com.astronaut.util.TimeValidator;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Measures auto-scheduler throughput on synthetic days. The default load asks for about 80% of
+// each day, so most requests are placed; raise requestsPerDay to time the oversubscribed case.
+// Usage: java -cp src com.astronaut.benchmark.PlacementBenchmark [requestsPerDay] [days]
+public class PlacementBenchmark {
+    private static final String[] PRIORITIES = {"High", "Medium", "Low"};
+    private static final int WARMUP_DAYS = 200;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    
+    public static void main(String[] args) {
+        int requestsPerDay = args.length > 0 ? Integer.parseInt(args[0]) : 80;
+        int days = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        
+        Logger.getInstance().setMinimumLevel(LogLevel.ERROR);
+        ScheduleManager scheduleManager = ScheduleManager.getInstance();
+        scheduleManager.setMaxResidentPartitions(WARMUP_DAYS + days);
+        Random random = new Random(42);
+        LocalDate firstDay = LocalDate.of(2030, 1, 1);
+        
+        for (int d = 0; d < WARMUP_DAYS; d++) {
+            scheduleManager.autoSchedule("warmup", firstDay.plusDays(d), generate(random, requestsPerDay));
+        }
+        
+        List<List<PlacementRequest>> batches = new ArrayList<>(days);
+        long requestedMinutes = 0;
+        for (int d = 0; d < days; d++) {
+            List<PlacementRequest> batch = generate(random, requestsPerDay);
+            for (PlacementRequest request : batch) {
+                requestedMinutes += request.getDurationMinutes();
+            }
+            batches.add(batch);
+        }
+        
+        long placed = 0;
+        long unplaced = 0;
+        long placedMinutes = 0;
+        long started = System.nanoTime();
+        for (int d = 0; d < days; d++) {
+            BatchResult result = scheduleManager.autoSchedule("benchmark", firstDay.plusDays(d), batches.get(d));
+            placed += result.getCount(BatchResult.Status.ADDED);
+            unplaced += result.getCount(BatchResult.Status.UNPLACED);
+            for (Task task : result.getTasks(BatchResult.Status.ADDED)) {
+                placedMinutes += task.getEndMinutes() - task.getStartMinutes();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        
+        long requests = (long) requestsPerDay * days;
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("%d requests over %d days in %.1f ms: %.0f requests/s, %.2f us/request%n",
+                requests, days, elapsedNanos / 1_000_000.0, requests / seconds, elapsedNanos / 1000.0 / requests);
+        long dayMinutes = (long) MINUTES_PER_DAY * days;
+        System.out.printf("requested %.0f%% of each day, placed %.0f%%: placed=%d (%.0f placements/s) unplaced=%d%n",
+                100.0 * requestedMinutes / dayMinutes, 100.0 * placedMinutes / dayMinutes,
+                placed, placed / seconds, unplaced);
+        Logger.getInstance().shutdown();
+    }
+    
+    // Mostly short tasks with a few long blocks, each in a random window of one to eight hours
+    private static List<PlacementRequest> generate(Random random, int count) {
+        List<PlacementRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int duration = random.nextInt(10) == 0 ? 30 + random.nextInt(90) : 1 + random.nextInt(15);
+            int windowLength = 60 + random.nextInt(7 * 60);
+            int windowStart = random.nextInt(MINUTES_PER_DAY - windowLength);
+            requests.add(new PlacementRequest("Task " + i, duration, PRIORITIES[random.nextInt(PRIORITIES.length)],
+                    TimeValidator.convertMinutesToTime(windowStart),
+                    TimeValidator.convertMinutesToTime(windowStart + windowLength)));
+        }
+        return requests;
+    }
+}
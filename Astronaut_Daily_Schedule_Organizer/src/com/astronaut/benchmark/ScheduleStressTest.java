@@ -0,0 +1,157 @@
+package com.astronaut.benchmark;
+
+import com.astronaut.manager.ScheduleManager;
+import com.astronaut.model.Task;
+import com.astronaut.util.LogLevel;
+import com.astronaut.util.Logger;
+import com.astronaut.util.TimeValidator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Hammers the striped time-bucket locks from many threads and checks the schedule afterwards:
+// disjoint tasks straddling bucket boundaries must all be admitted, racing overlapping tasks
+// must never leave two overlapping tasks behind, and no thread may hang.
+// Usage: java -cp src com.astronaut.benchmark.ScheduleStressTest [threads] [operationsPerThread] [rounds]
+public class ScheduleStressTest {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int BUCKET_MINUTES = 60;
+    private static final long TIMEOUT_MILLIS = 60_000;
+    
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        
+        Logger.getInstance().setMinimumLevel(LogLevel.ERROR);
+        ScheduleManager scheduleManager = ScheduleManager.getInstance();
+        boolean passed = true;
+        for (int round = 0; round < rounds && passed; round++) {
+            scheduleManager.clearAllTasks();
+            passed = disjointRound(scheduleManager, threads, round)
+                    && overlappingRound(scheduleManager, threads, operations, round);
+        }
+        scheduleManager.clearAllTasks();
+        Logger.getInstance().shutdown();
+        
+        System.out.println(passed ? "✓ All rounds passed" : "✗ Stress test failed");
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+    
+    // Every slot crosses an hour boundary, so neighbouring slots share buckets but never minutes
+    private static boolean disjointRound(ScheduleManager scheduleManager, int threads, int round)
+            throws InterruptedException {
+        List<Task> slots = new ArrayList<>();
+        for (int boundary = BUCKET_MINUTES; boundary < MINUTES_PER_DAY; boundary += BUCKET_MINUTES) {
+            slots.add(task("Disjoint " + round + "-" + boundary, boundary - 20, boundary + 20));
+            slots.add(task("Inside " + round + "-" + boundary, boundary + 25, boundary + 35));
+        }
+        Collections.shuffle(slots, new Random(round));
+        
+        AtomicInteger rejected = new AtomicInteger();
+        boolean finished = runThreads(threads, t -> {
+            for (int i = t; i < slots.size(); i += threads) {
+                if (!scheduleManager.addTask(slots.get(i))) {
+                    rejected.incrementAndGet();
+                }
+            }
+        });
+        
+        int count = scheduleManager.getTaskCount();
+        if (!finished || rejected.get() > 0 || count != slots.size() || !checkNoOverlaps(scheduleManager)) {
+            System.out.printf("✗ Round %d disjoint: finished=%b rejected=%d tasks=%d of %d%n",
+                    round, finished, rejected.get(), count, slots.size());
+            return false;
+        }
+        return true;
+    }
+    
+    // Threads race to add, move and remove short tasks that often straddle bucket boundaries
+    private static boolean overlappingRound(ScheduleManager scheduleManager, int threads, int operations, int round)
+            throws InterruptedException {
+        scheduleManager.clearAllTasks();
+        AtomicInteger added = new AtomicInteger();
+        AtomicInteger removed = new AtomicInteger();
+        boolean finished = runThreads(threads, t -> {
+            Random random = new Random(round * 1000L + t);
+            String prefix = "Racing " + round + "-" + t + "-";
+            for (int i = 0; i < operations; i++) {
+                int boundary = BUCKET_MINUTES * (1 + random.nextInt(MINUTES_PER_DAY / BUCKET_MINUTES - 2));
+                int start = boundary - random.nextInt(BUCKET_MINUTES);
+                int end = Math.min(MINUTES_PER_DAY - 1, start + 1 + random.nextInt(2 * BUCKET_MINUTES));
+                if (scheduleManager.addTask(task(prefix + i, start, end))) {
+                    added.incrementAndGet();
+                }
+                if (i % 7 == 0) {
+                    int moveTo = random.nextInt(MINUTES_PER_DAY - 90);
+                    scheduleManager.editTask(prefix + random.nextInt(i + 1),
+                            TimeValidator.convertMinutesToTime(moveTo),
+                            TimeValidator.convertMinutesToTime(moveTo + 1 + random.nextInt(89)), "Low");
+                }
+                if (i % 11 == 0 && scheduleManager.removeTask(prefix + random.nextInt(i + 1))) {
+                    removed.incrementAndGet();
+                }
+            }
+        });
+        
+        int count = scheduleManager.getTaskCount();
+        int expected = added.get() - removed.get();
+        if (!finished || count != expected || !checkNoOverlaps(scheduleManager)) {
+            System.out.printf("✗ Round %d overlapping: finished=%b tasks=%d, expected %d%n",
+                    round, finished, count, expected);
+            return false;
+        }
+        System.out.printf("Round %d: %d tasks admitted, %d removed, %d left, no overlaps%n",
+                round, added.get(), removed.get(), count);
+        return true;
+    }
+    
+    private static boolean checkNoOverlaps(ScheduleManager scheduleManager) {
+        List<Task> tasks = scheduleManager.getTasksSortedByStartTime();
+        for (int i = 1; i < tasks.size(); i++) {
+            if (tasks.get(i - 1).overlapsWith(tasks.get(i))) {
+                System.out.println("✗ Overlapping tasks: " + tasks.get(i - 1) + " and " + tasks.get(i));
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    // Returns false if any worker is still running after the timeout, which points at a deadlock
+    private static boolean runThreads(int threads, Worker worker) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    worker.run(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }, "stress-" + t);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        start.countDown();
+        return done.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+    
+    private static Task task(String description, int startMinutes, int endMinutes) {
+        return new Task(description, TimeValidator.convertMinutesToTime(startMinutes),
+                TimeValidator.convertMinutesToTime(endMinutes), "High");
+    }
+    
+    private interface Worker {
+        void run(int threadIndex);
+    }
+}
@@ -0,0 +1,83 @@
+package com.astronaut.benchmark;
+
+import com.astronaut.model.Task;
+import com.astronaut.util.TimeValidator;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Random;
+
+// Compares overlap checks that parse "HH:MM" strings on every call, as Task used to, with
+// checks over the int minute fields Task now keeps. Reports time and bytes allocated per check.
+// Usage: java -cp src com.astronaut.benchmark.TaskTimeBenchmark [tasks] [checks]
+public class TaskTimeBenchmark {
+    public static void main(String[] args) {
+        int taskCount = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int checks = args.length > 1 ? Integer.parseInt(args[1]) : 5_000_000;
+        
+        Random random = new Random(42);
+        Task[] tasks = new Task[taskCount];
+        for (int i = 0; i < taskCount; i++) {
+            int start = random.nextInt(24 * 60 - 60);
+            int end = start + 1 + random.nextInt(60);
+            tasks[i] = new Task("Task " + i, TimeValidator.convertMinutesToTime(start),
+                    TimeValidator.convertMinutesToTime(end), "Medium");
+        }
+        
+        // Warm up both paths so the JIT has compiled them before measuring
+        run(tasks, checks, true, false);
+        run(tasks, checks, false, false);
+        
+        long parsedOverlaps = run(tasks, checks, true, true);
+        long intOverlaps = run(tasks, checks, false, true);
+        if (parsedOverlaps != intOverlaps) {
+            System.out.println("✗ Parsed and int checks disagree: " + parsedOverlaps + " vs " + intOverlaps);
+        }
+    }
+    
+    private static long run(Task[] tasks, int checks, boolean parse, boolean report) {
+        Random random = new Random(7);
+        long allocatedBefore = allocatedBytes();
+        long started = System.nanoTime();
+        long overlaps = 0;
+        for (int i = 0; i < checks; i++) {
+            Task a = tasks[random.nextInt(tasks.length)];
+            Task b = tasks[random.nextInt(tasks.length)];
+            if (parse ? overlapsParsed(a, b) : a.overlapsWith(b)) {
+                overlaps++;
+            }
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        long allocated = allocatedBefore < 0 ? -1 : allocatedBytes() - allocatedBefore;
+        
+        if (report) {
+            System.out.printf("%-12s %d checks in %.1f ms: %.1f ns/check, %s bytes/check%n",
+                    parse ? "parsed" : "int minutes", checks, elapsedNanos / 1_000_000.0,
+                    (double) elapsedNanos / checks,
+                    allocated < 0 ? "n/a" : String.format("%.1f", (double) allocated / checks));
+        }
+        return overlaps;
+    }
+    
+    // The overlap test as it was when Task kept only strings
+    private static boolean overlapsParsed(Task a, Task b) {
+        int aStart = parse(a.getStartTime());
+        int aEnd = parse(a.getEndTime());
+        int bStart = parse(b.getStartTime());
+        int bEnd = parse(b.getEndTime());
+        return aStart < bEnd && aEnd > bStart;
+    }
+    
+    private static int parse(String time) {
+        String[] parts = time.trim().split(":");
+        return Integer.parseInt(parts[0]) * 60 + Integer.parseInt(parts[1]);
+    }
+    
+    // Bytes allocated by this thread so far, or -1 when the JVM cannot tell
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
@@ -1,9 +1,11 @@
 package com.astronaut.factory;
 
+import com.astronaut.model.BatchResult;
 import com.astronaut.model.Task;
 import com.astronaut.util.Logger;
 import com.astronaut.util.TimeValidator;
 import com.astronaut.util.InputValidator;
+import java.util.List;
 
 public class TaskFactory {
     private static final Logger logger = Logger.getInstance();
@@ -11,35 +13,87 @@ public class TaskFactory {
     public static Task createTask(String description, String startTime, String endTime, String priority) {
         // Validate inputs
         if (!InputValidator.isValidDescription(description)) {
-            logger.error("Invalid task description: " + description);
+            logger.error("Invalid task description: %s", description);
             throw new IllegalArgumentException("Task description cannot be null or empty");
         }
         
-        if (!TimeValidator.isValidTimeFormat(startTime)) {
-            logger.error("Invalid start time format: " + startTime);
+        int startMinutes = TimeValidator.parseMinutes(startTime);
+        if (startMinutes < 0) {
+            logger.error("Invalid start time format: %s", startTime);
             throw new IllegalArgumentException("Invalid start time format. Use HH:MM (24-hour format)");
         }
         
-        if (!TimeValidator.isValidTimeFormat(endTime)) {
-            logger.error("Invalid end time format: " + endTime);
+        int endMinutes = TimeValidator.parseMinutes(endTime);
+        if (endMinutes < 0) {
+            logger.error("Invalid end time format: %s", endTime);
             throw new IllegalArgumentException("Invalid end time format. Use HH:MM (24-hour format)");
         }
         
-        if (!TimeValidator.isEndTimeAfterStartTime(startTime, endTime)) {
-            logger.error("End time must be after start time: " + startTime + " - " + endTime);
+        if (endMinutes <= startMinutes) {
+            logger.error("End time must be after start time: %s - %s", startTime, endTime);
             throw new IllegalArgumentException("End time must be after start time");
         }
         
         if (!InputValidator.isValidPriority(priority)) {
-            logger.error("Invalid priority level: " + priority);
+            logger.error("Invalid priority level: %s", priority);
             throw new IllegalArgumentException("Priority must be High, Medium, or Low");
         }
         
         Task task = new Task(description, startTime, endTime, priority);
-        logger.info("Task created successfully: " + description);
+        logger.info("Task created successfully: %s", description);
         return task;
     }
     
+    // Rows are {description, startTime, endTime[, priority]}; a missing priority defaults to Medium.
+    // Invalid rows are reported in the result instead of being logged and thrown one by one.
+    public static BatchResult createBatch(List<String[]> rows) {
+        BatchResult result = new BatchResult();
+        if (rows == null) {
+            return result;
+        }
+        
+        for (int i = 0; i < rows.size(); i++) {
+            String[] row = rows.get(i);
+            if (row == null || row.length < 3) {
+                result.record(i, null, BatchResult.Status.INVALID, "Expected description, start time, end time [, priority]");
+                continue;
+            }
+            
+            String description = row[0];
+            String priority = row.length > 3 && row[3] != null && !row[3].trim().isEmpty() ? row[3] : "Medium";
+            int startMinutes = TimeValidator.parseMinutes(row[1]);
+            int endMinutes = TimeValidator.parseMinutes(row[2]);
+            
+            String error = null;
+            if (!InputValidator.isValidDescription(description)) {
+                error = "Task description cannot be null or empty";
+            } else if (startMinutes < 0) {
+                error = "Invalid start time format. Use HH:MM (24-hour format)";
+            } else if (endMinutes < 0) {
+                error = "Invalid end time format. Use HH:MM (24-hour format)";
+            } else if (endMinutes <= startMinutes) {
+                error = "End time must be after start time";
+            } else if (!InputValidator.isValidPriority(priority)) {
+                error = "Priority must be High, Medium, or Low";
+            }
+            
+            if (error != null) {
+                result.record(i, null, BatchResult.Status.INVALID, error);
+            } else {
+                Task task = new Task(description.trim(), row[1].trim(), row[2].trim(),
+                                     InputValidator.normalizePriority(priority));
+                result.record(i, task, BatchResult.Status.CREATED, "Task created");
+            }
+        }
+        
+        int invalid = result.getCount(BatchResult.Status.INVALID);
+        if (invalid > 0) {
+            logger.warn("Batch creation rejected %d of %d rows", invalid, rows.size());
+        }
+        logger.info("Batch created %d tasks", result.getCount(BatchResult.Status.CREATED));
+        return result;
+    }
+    
     public static Task createTaskWithDefaults(String description, String startTime, String endTime) {
         return createTask(description, startTime, endTime, "Medium");
     }
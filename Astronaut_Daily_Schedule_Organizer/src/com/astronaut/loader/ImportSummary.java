@@ -0,0 +1,69 @@
+package com.astronaut.loader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ImportSummary {
+    private static final int MAX_REPORTED_PROBLEMS = 20;
+    
+    private long rowsRead;
+    private long added;
+    private long conflicts;
+    private long invalid;
+    private final List<String> problems;
+    
+    public ImportSummary() {
+        this.problems = new ArrayList<>();
+    }
+    
+    void recordAdded(long count) {
+        added += count;
+        rowsRead += count;
+    }
+    
+    void recordConflict(long lineNumber, String message) {
+        conflicts++;
+        rowsRead++;
+        recordProblem(lineNumber, message);
+    }
+    
+    void recordInvalid(long lineNumber, String message) {
+        invalid++;
+        rowsRead++;
+        recordProblem(lineNumber, message);
+    }
+    
+    // Only the first few problems are kept so memory stays bounded on huge files
+    private void recordProblem(long lineNumber, String message) {
+        if (problems.size() < MAX_REPORTED_PROBLEMS) {
+            problems.add("Line " + lineNumber + ": " + message);
+        }
+    }
+    
+    public long getRowsRead() {
+        return rowsRead;
+    }
+    
+    public long getAdded() {
+        return added;
+    }
+    
+    public long getConflicts() {
+        return conflicts;
+    }
+    
+    public long getInvalid() {
+        return invalid;
+    }
+    
+    public List<String> getProblems() {
+        return Collections.unmodifiableList(problems);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%d rows read: %d added, %d conflicts, %d invalid",
+            rowsRead, added, conflicts, invalid);
+    }
+}
@@ -0,0 +1,365 @@
+package com.astronaut.loader;
+
+import com.astronaut.factory.TaskFactory;
+import com.astronaut.manager.ScheduleManager;
+import com.astronaut.model.BatchResult;
+import com.astronaut.util.Logger;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class ScheduleLoader {
+    private static final int DEFAULT_CHUNK_SIZE = 1024;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    // Longer lines are reported as invalid instead of being buffered without bound
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+    private static final String[] CSV_HEADER = {"description", "starttime", "endtime", "priority"};
+    
+    private final ScheduleManager scheduleManager;
+    private final int chunkSize;
+    private final Logger logger;
+    
+    public ScheduleLoader(ScheduleManager scheduleManager) {
+        this(scheduleManager, DEFAULT_CHUNK_SIZE);
+    }
+    
+    public ScheduleLoader(ScheduleManager scheduleManager, int chunkSize) {
+        if (scheduleManager == null) {
+            throw new IllegalArgumentException("Schedule manager cannot be null");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.scheduleManager = scheduleManager;
+        this.chunkSize = chunkSize;
+        this.logger = Logger.getInstance();
+    }
+    
+    // CSV rows are description,startTime,endTime[,priority] with an optional header line;
+    // .jsonl / .ndjson files hold one flat object per line with the same field names.
+    public ImportSummary load(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        boolean jsonLines = name.endsWith(".jsonl") || name.endsWith(".ndjson");
+        logger.info("Importing schedule from %s", file);
+        
+        ImportSummary summary = new ImportSummary();
+        List<String[]> chunk = new ArrayList<>(chunkSize);
+        long[] lineNumbers = new long[chunkSize];
+        
+        ByteBuffer bytes = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        CharBuffer chars = CharBuffer.allocate(READ_BUFFER_SIZE);
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        StringBuilder line = new StringBuilder();
+        boolean overlong = false;
+        long lineNumber = 0;
+        
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            boolean endOfInput = false;
+            while (!endOfInput) {
+                endOfInput = channel.read(bytes) < 0;
+                bytes.flip();
+                CoderResult coderResult = decoder.decode(bytes, chars, endOfInput);
+                if (coderResult.isError()) {
+                    coderResult.throwException();
+                }
+                if (endOfInput) {
+                    decoder.flush(chars);
+                }
+                bytes.compact();
+                
+                chars.flip();
+                while (chars.hasRemaining()) {
+                    char c = chars.get();
+                    if (c != '\n') {
+                        if (line.length() < MAX_LINE_LENGTH) {
+                            line.append(c);
+                        } else {
+                            overlong = true;
+                        }
+                        continue;
+                    }
+                    lineNumber++;
+                    acceptLine(line, overlong, lineNumber, jsonLines, chunk, lineNumbers, summary);
+                    line.setLength(0);
+                    overlong = false;
+                }
+                chars.clear();
+            }
+        }
+        
+        if (line.length() > 0) {
+            lineNumber++;
+            acceptLine(line, overlong, lineNumber, jsonLines, chunk, lineNumbers, summary);
+        }
+        flushChunk(chunk, lineNumbers, summary);
+        
+        logger.info("Import finished: %s", summary);
+        return summary;
+    }
+    
+    private void acceptLine(StringBuilder line, boolean overlong, long lineNumber, boolean jsonLines,
+                            List<String[]> chunk, long[] lineNumbers, ImportSummary summary) {
+        if (overlong) {
+            summary.recordInvalid(lineNumber, "Line longer than " + MAX_LINE_LENGTH + " characters");
+            return;
+        }
+        
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(--length);
+        }
+        if (isBlank(line)) {
+            return;
+        }
+        
+        String[] row = jsonLines ? parseJsonLine(line) : parseCsvLine(line);
+        if (lineNumber == 1 && !jsonLines && isCsvHeader(row)) {
+            return;
+        }
+        if (row == null) {
+            summary.recordInvalid(lineNumber, "Malformed " + (jsonLines ? "JSON" : "CSV") + " row");
+            return;
+        }
+        
+        lineNumbers[chunk.size()] = lineNumber;
+        chunk.add(row);
+        if (chunk.size() == chunkSize) {
+            flushChunk(chunk, lineNumbers, summary);
+        }
+    }
+    
+    private void flushChunk(List<String[]> chunk, long[] lineNumbers, ImportSummary summary) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        
+        BatchResult created = TaskFactory.createBatch(chunk);
+        for (BatchResult.Item item : created.getItems()) {
+            if (item.getStatus() == BatchResult.Status.INVALID) {
+                summary.recordInvalid(lineNumbers[item.getIndex()], item.getMessage());
+            }
+        }
+        
+        // Items in the add result are indexed within the created tasks, not the chunk
+        List<BatchResult.Item> createdItems = created.getItems();
+        long[] createdLines = new long[created.getCount(BatchResult.Status.CREATED)];
+        int position = 0;
+        for (BatchResult.Item item : createdItems) {
+            if (item.getStatus() == BatchResult.Status.CREATED) {
+                createdLines[position++] = lineNumbers[item.getIndex()];
+            }
+        }
+        
+        BatchResult added = scheduleManager.addAll(created.getTasks(BatchResult.Status.CREATED));
+        summary.recordAdded(added.getCount(BatchResult.Status.ADDED));
+        for (BatchResult.Item item : added.getItems()) {
+            if (item.getStatus() != BatchResult.Status.ADDED) {
+                summary.recordConflict(createdLines[item.getIndex()], item.getMessage());
+            }
+        }
+        chunk.clear();
+    }
+    
+    private static boolean isBlank(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    // A header names exactly the expected columns (case, spaces and underscores ignored), so a
+    // first task that happens to be called "Description ..." is still imported
+    private static boolean isCsvHeader(String[] row) {
+        if (row == null || row.length < CSV_HEADER.length - 1 || row.length > CSV_HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < row.length; i++) {
+            String column = row[i].replace(" ", "").replace("_", "").toLowerCase(Locale.ROOT);
+            if (!column.equals(CSV_HEADER[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    // Splits on commas outside double quotes; "" inside a quoted field is a literal quote.
+    private static String[] parseCsvLine(StringBuilder line) {
+        List<String> fields = new ArrayList<>(4);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+    
+    // Reads a flat JSON object of string fields; unknown keys and non-string values are skipped.
+    private static String[] parseJsonLine(StringBuilder line) {
+        String[] row = new String[4];
+        int i = skipWhitespace(line, 0);
+        if (i >= line.length() || line.charAt(i) != '{') {
+            return null;
+        }
+        i++;
+        
+        StringBuilder token = new StringBuilder();
+        while (true) {
+            i = skipWhitespace(line, i);
+            if (i < line.length() && line.charAt(i) == '}') {
+                return row;
+            }
+            
+            i = readJsonString(line, i, token);
+            if (i < 0) {
+                return null;
+            }
+            String key = token.toString();
+            
+            i = skipWhitespace(line, i);
+            if (i >= line.length() || line.charAt(i) != ':') {
+                return null;
+            }
+            i = skipWhitespace(line, i + 1);
+            
+            String value = null;
+            if (i < line.length() && line.charAt(i) == '"') {
+                i = readJsonString(line, i, token);
+                if (i < 0) {
+                    return null;
+                }
+                value = token.toString();
+            } else {
+                while (i < line.length() && line.charAt(i) != ',' && line.charAt(i) != '}') {
+                    i++;
+                }
+            }
+            
+            int column = jsonColumn(key);
+            if (column >= 0) {
+                row[column] = value;
+            }
+            
+            i = skipWhitespace(line, i);
+            if (i < line.length() && line.charAt(i) == ',') {
+                i++;
+            } else if (i >= line.length() || line.charAt(i) != '}') {
+                return null;
+            }
+        }
+    }
+    
+    private static int jsonColumn(String key) {
+        switch (key) {
+            case "description":
+                return 0;
+            case "startTime":
+            case "start":
+                return 1;
+            case "endTime":
+            case "end":
+                return 2;
+            case "priority":
+                return 3;
+            default:
+                return -1;
+        }
+    }
+    
+    private static int skipWhitespace(StringBuilder line, int i) {
+        while (i < line.length() && Character.isWhitespace(line.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+    
+    // Decodes the string literal starting at the opening quote into token; returns the index after it or -1
+    private static int readJsonString(StringBuilder line, int i, StringBuilder token) {
+        if (i >= line.length() || line.charAt(i) != '"') {
+            return -1;
+        }
+        token.setLength(0);
+        i++;
+        while (i < line.length()) {
+            char c = line.charAt(i++);
+            if (c == '"') {
+                return i;
+            }
+            if (c != '\\') {
+                token.append(c);
+                continue;
+            }
+            if (i >= line.length()) {
+                return -1;
+            }
+            char escaped = line.charAt(i++);
+            switch (escaped) {
+                case 'n':
+                    token.append('\n');
+                    break;
+                case 't':
+                    token.append('\t');
+                    break;
+                case 'r':
+                    token.append('\r');
+                    break;
+                case 'b':
+                    token.append('\b');
+                    break;
+                case 'f':
+                    token.append('\f');
+                    break;
+                case 'u':
+                    if (i + 4 > line.length()) {
+                        return -1;
+                    }
+                    try {
+                        token.append((char) Integer.parseInt(line.substring(i, i + 4), 16));
+                    } catch (NumberFormatException e) {
+                        return -1;
+                    }
+                    i += 4;
+                    break;
+                default:
+                    token.append(escaped);
+            }
+        }
+        return -1;
+    }
+}
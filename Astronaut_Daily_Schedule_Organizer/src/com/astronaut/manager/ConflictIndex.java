@@ -0,0 +1,98 @@
+package com.astronaut.manager;
+
+import com.astronaut.model.Task;
+import com.astronaut.model.TimeSlot;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public class ConflictIndex {
+    // Admitted tasks never overlap, so ordering by start also orders by end and the
+    // latest task starting before a candidate's end is the only one that can overlap it.
+    private final ConcurrentSkipListMap<Integer, Task> tasksByStart;
+    
+    public ConflictIndex() {
+        this.tasksByStart = new ConcurrentSkipListMap<>();
+    }
+    
+    public Task findConflict(int startMinutes, int endMinutes) {
+        Map.Entry<Integer, Task> candidate = tasksByStart.lowerEntry(endMinutes);
+        if (candidate != null && candidate.getValue().getEndMinutes() > startMinutes) {
+            return candidate.getValue();
+        }
+        return null;
+    }
+    
+    public Task findConflict(Task task) {
+        return findConflict(task.getStartMinutes(), task.getEndMinutes());
+    }
+    
+    // Sweeps right from the window start, jumping past each blocking task, so every step
+    // is one O(log n) probe. Returns -1 if no gap of the given length fits the window.
+    public int findEarliestFit(int durationMinutes, int windowStart, int windowEnd) {
+        int candidate = windowStart;
+        while (candidate + durationMinutes <= windowEnd) {
+            Task blocking = findConflict(candidate, candidate + durationMinutes);
+            if (blocking == null) {
+                return candidate;
+            }
+            candidate = blocking.getEndMinutes();
+        }
+        return -1;
+    }
+    
+    public List<TimeSlot> findFreeSlots(int durationMinutes, int windowStart, int windowEnd) {
+        List<TimeSlot> slots = new ArrayList<>();
+        int gapStart = windowStart;
+        Map.Entry<Integer, Task> first = tasksByStart.lowerEntry(windowStart);
+        if (first != null && first.getValue().getEndMinutes() > gapStart) {
+            gapStart = first.getValue().getEndMinutes();
+        }
+        
+        for (Task task : tasksByStart.subMap(windowStart, true, windowEnd, false).values()) {
+            if (task.getStartMinutes() - gapStart >= durationMinutes) {
+                slots.add(new TimeSlot(gapStart, task.getStartMinutes()));
+            }
+            gapStart = Math.max(gapStart, task.getEndMinutes());
+        }
+        if (windowEnd - gapStart >= durationMinutes) {
+            slots.add(new TimeSlot(gapStart, windowEnd));
+        }
+        return slots;
+    }
+    
+    public void add(Task task) {
+        tasksByStart.put(task.getStartMinutes(), task);
+    }
+    
+    public boolean remove(Task task) {
+        return tasksByStart.remove(task.getStartMinutes(), task);
+    }
+    
+    public Task getTaskStartingAt(int startMinutes) {
+        return tasksByStart.get(startMinutes);
+    }
+    
+    public boolean contains(Task task) {
+        return tasksByStart.get(task.getStartMinutes()) == task;
+    }
+    
+    public List<Task> getTasks() {
+        return new ArrayList<>(tasksByStart.values());
+    }
+    
+    public Collection<Task> view() {
+        return Collections.unmodifiableCollection(tasksByStart.values());
+    }
+    
+    public int size() {
+        return tasksByStart.size();
+    }
+    
+    public void clear() {
+        tasksByStart.clear();
+    }
+}
@@ -0,0 +1,182 @@
+package com.astronaut.manager;
+
+import com.astronaut.model.Task;
+import com.astronaut.model.TimeSlot;
+import com.astronaut.persistence.ScheduleJournal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// One crew member's tasks for one day, with its own indexes and locks so that
+// partitions never contend with each other
+public class DaySchedule {
+    private static final int LOCK_BUCKET_MINUTES = 60;
+    private static final int RETIRED = -1;
+    
+    private final String crewMember;
+    private final LocalDate date;
+    private final ConflictIndex timeIndex;
+    private final DescriptionIndex descriptionIndex;
+    private final PriorityIndex priorityIndex;
+    private final TimeBucketLocks bucketLocks;
+    private final AtomicInteger pins;
+    private volatile long lastAccessNanos;
+    private volatile ScheduleJournal journal;
+    
+    public DaySchedule(String crewMember, LocalDate date) {
+        this.crewMember = crewMember;
+        this.date = date;
+        this.timeIndex = new ConflictIndex();
+        this.descriptionIndex = new DescriptionIndex();
+        this.priorityIndex = new PriorityIndex();
+        this.bucketLocks = new TimeBucketLocks(LOCK_BUCKET_MINUTES);
+        this.pins = new AtomicInteger();
+        this.lastAccessNanos = System.nanoTime();
+    }
+    
+    public String getCrewMember() {
+        return crewMember;
+    }
+    
+    public LocalDate getDate() {
+        return date;
+    }
+    
+    public Task findConflict(Task task) {
+        return timeIndex.findConflict(task);
+    }
+    
+    public int findEarliestFit(int durationMinutes, int windowStart, int windowEnd) {
+        return timeIndex.findEarliestFit(durationMinutes, windowStart, windowEnd);
+    }
+    
+    public List<TimeSlot> findFreeSlots(int durationMinutes, int windowStart, int windowEnd) {
+        return timeIndex.findFreeSlots(durationMinutes, windowStart, windowEnd);
+    }
+    
+    public Task findTask(String description) {
+        return descriptionIndex.find(description);
+    }
+    
+    public Task getTaskStartingAt(int startMinutes) {
+        return timeIndex.getTaskStartingAt(startMinutes);
+    }
+    
+    public boolean contains(Task task) {
+        return timeIndex.contains(task);
+    }
+    
+    // The secondary indexes must change together with the time index; callers hold the task's buckets
+    public void indexTask(Task task) {
+        timeIndex.add(task);
+        descriptionIndex.add(task);
+        priorityIndex.add(task);
+    }
+    
+    public void unindexTask(Task task) {
+        timeIndex.remove(task);
+        descriptionIndex.remove(task);
+        priorityIndex.remove(task);
+    }
+    
+    public void clearIndexes() {
+        timeIndex.clear();
+        descriptionIndex.clear();
+        priorityIndex.clear();
+    }
+    
+    public void lock(int startMinutes, int endMinutes) {
+        bucketLocks.lock(startMinutes, endMinutes);
+    }
+    
+    public void unlock(int startMinutes, int endMinutes) {
+        bucketLocks.unlock(startMinutes, endMinutes);
+    }
+    
+    public void lockAll() {
+        bucketLocks.lockAll();
+    }
+    
+    public void unlockAll() {
+        bucketLocks.unlockAll();
+    }
+    
+    // Locks the buckets of the named task and returns it, retrying if the task is
+    // moved or removed between the lookup and the lock. The caller must unlock.
+    public Task lockTask(String description) {
+        while (true) {
+            Task task = findTask(description);
+            if (task == null) {
+                return null;
+            }
+            
+            int startMinutes = task.getStartMinutes();
+            int endMinutes = task.getEndMinutes();
+            bucketLocks.lock(startMinutes, endMinutes);
+            if (timeIndex.contains(task) && task.getStartMinutes() == startMinutes
+                    && task.getEndMinutes() == endMinutes) {
+                return task;
+            }
+            bucketLocks.unlock(startMinutes, endMinutes);
+        }
+    }
+    
+    public List<Task> getTasks() {
+        return timeIndex.getTasks();
+    }
+    
+    public Collection<Task> view() {
+        return timeIndex.view();
+    }
+    
+    public Collection<Task> viewByPriority(String priority) {
+        return priorityIndex.view(priority);
+    }
+    
+    public int size() {
+        return timeIndex.size();
+    }
+    
+    public ScheduleJournal getJournal() {
+        return journal;
+    }
+    
+    public void setJournal(ScheduleJournal journal) {
+        this.journal = journal;
+    }
+    
+    // A pinned partition is in use and will not be evicted; once retired it can no longer be pinned
+    public boolean pin() {
+        while (true) {
+            int current = pins.get();
+            if (current == RETIRED) {
+                return false;
+            }
+            if (pins.compareAndSet(current, current + 1)) {
+                lastAccessNanos = System.nanoTime();
+                return true;
+            }
+        }
+    }
+    
+    public void unpin() {
+        pins.decrementAndGet();
+    }
+    
+    public boolean isIdle() {
+        return pins.get() == 0;
+    }
+    
+    public boolean retire() {
+        return pins.compareAndSet(0, RETIRED);
+    }
+    
+    public void reinstate() {
+        pins.compareAndSet(RETIRED, 0);
+    }
+    
+    public long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+}
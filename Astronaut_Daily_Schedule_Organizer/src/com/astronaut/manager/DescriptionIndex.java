@@ -0,0 +1,65 @@
+package com.astronaut.manager;
+
+import com.astronaut.model.Task;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class DescriptionIndex {
+    // Descriptions are not unique, so each key maps to the tasks sharing it. The arrays
+    // are replaced, never mutated, so lookups can read them without locking.
+    private final ConcurrentHashMap<String, Task[]> tasksByDescription;
+    
+    public DescriptionIndex() {
+        this.tasksByDescription = new ConcurrentHashMap<>();
+    }
+    
+    // Returns the earliest task with the given description, as the old linear scan did
+    public Task find(String description) {
+        Task[] matches = tasksByDescription.get(keyOf(description));
+        if (matches == null) {
+            return null;
+        }
+        
+        Task earliest = matches[0];
+        for (int i = 1; i < matches.length; i++) {
+            if (matches[i].getStartMinutes() < earliest.getStartMinutes()) {
+                earliest = matches[i];
+            }
+        }
+        return earliest;
+    }
+    
+    public void add(Task task) {
+        tasksByDescription.merge(keyOf(task.getDescription()), new Task[] {task}, (existing, added) -> {
+            Task[] merged = Arrays.copyOf(existing, existing.length + 1);
+            merged[existing.length] = task;
+            return merged;
+        });
+    }
+    
+    public void remove(Task task) {
+        tasksByDescription.computeIfPresent(keyOf(task.getDescription()), (key, existing) -> {
+            for (int i = 0; i < existing.length; i++) {
+                if (existing[i] == task) {
+                    if (existing.length == 1) {
+                        return null;
+                    }
+                    Task[] remaining = new Task[existing.length - 1];
+                    System.arraycopy(existing, 0, remaining, 0, i);
+                    System.arraycopy(existing, i + 1, remaining, i, existing.length - i - 1);
+                    return remaining;
+                }
+            }
+            return existing;
+        });
+    }
+    
+    public void clear() {
+        tasksByDescription.clear();
+    }
+    
+    private static String keyOf(String description) {
+        return description.trim().toLowerCase(Locale.ROOT);
+    }
+}
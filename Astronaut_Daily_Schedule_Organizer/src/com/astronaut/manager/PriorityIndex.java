@@ -0,0 +1,50 @@
+package com.astronaut.manager;
+
+import com.astronaut.model.Task;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public class PriorityIndex {
+    // One start-ordered bucket per priority, so a priority query is already sorted
+    // and costs time proportional to the number of matching tasks.
+    private final ConcurrentHashMap<String, ConcurrentSkipListMap<Integer, Task>> tasksByPriority;
+    
+    public PriorityIndex() {
+        this.tasksByPriority = new ConcurrentHashMap<>();
+    }
+    
+    public void add(Task task) {
+        tasksByPriority.computeIfAbsent(keyOf(task.getPriority()), key -> new ConcurrentSkipListMap<>())
+                .put(task.getStartMinutes(), task);
+    }
+    
+    public void remove(Task task) {
+        ConcurrentSkipListMap<Integer, Task> bucket = tasksByPriority.get(keyOf(task.getPriority()));
+        if (bucket != null) {
+            bucket.remove(task.getStartMinutes(), task);
+        }
+    }
+    
+    // Live, read-only and weakly consistent: iteration never throws and reflects
+    // concurrent changes that happen behind the cursor's position or not at all
+    public Collection<Task> view(String priority) {
+        ConcurrentSkipListMap<Integer, Task> bucket = tasksByPriority.get(keyOf(priority));
+        if (bucket == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableCollection(bucket.values());
+    }
+    
+    public void clear() {
+        for (ConcurrentSkipListMap<Integer, Task> bucket : tasksByPriority.values()) {
+            bucket.clear();
+        }
+    }
+    
+    private static String keyOf(String priority) {
+        return priority.trim().toLowerCase(Locale.ROOT);
+    }
+}
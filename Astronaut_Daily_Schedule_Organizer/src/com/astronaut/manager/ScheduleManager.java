@@ -1,21 +1,48 @@
 package com.astronaut.manager;
 
+import com.astronaut.model.BatchResult;
+import com.astronaut.model.PlacementRequest;
 import com.astronaut.model.Task;
+import com.astronaut.model.TimeSlot;
+import com.astronaut.observer.AsyncObserverDispatcher;
+import com.astronaut.observer.ObserverRegistry;
 import com.astronaut.observer.TaskObserver;
+import com.astronaut.persistence.JournalListener;
+import com.astronaut.persistence.ScheduleJournal;
+import com.astronaut.persistence.ScheduleSnapshot;
+import com.astronaut.util.BackpressurePolicy;
+import com.astronaut.util.InputValidator;
 import com.astronaut.util.Logger;
+import com.astronaut.util.TimeValidator;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class ScheduleManager {
+    private static final long SNAPSHOT_INTERVAL_RECORDS = 10000;
+    private static final String SNAPSHOT_FILE = "schedule.snapshot";
+    private static final String JOURNAL_FILE = "schedule.journal";
+    private static final String PARTITIONS_DIRECTORY = "partitions";
     private static ScheduleManager instance;
-    private final List<Task> tasks;
-    private final List<TaskObserver> observers;
+    // The schedule behind the crew-less API; it is never evicted and is the one the journal covers
+    private final DaySchedule defaultSchedule;
+    private final SchedulePartitions partitions;
+    private final ObserverRegistry<TaskObserver> observers;
     private final Logger logger;
+    private volatile AsyncObserverDispatcher dispatcher;
+    private Path snapshotFile;
     
     private ScheduleManager() {
-        this.tasks = new ArrayList<>();
-        this.observers = new ArrayList<>();
+        this.defaultSchedule = new DaySchedule(null, null);
+        this.partitions = new SchedulePartitions();
+        this.observers = new ObserverRegistry<>();
         this.logger = Logger.getInstance();
         logger.info("ScheduleManager initialized");
     }
@@ -27,164 +54,838 @@ public class ScheduleManager {
         return instance;
     }
     
+    // Loads the last snapshot, replays the journal written since it, and from then on
+    // records every mutation. Call before the schedule is shared with other threads.
+    public void enablePersistence(String directory, ScheduleJournal.SyncMode syncMode) {
+        ScheduleJournal opened = null;
+        defaultSchedule.lockAll();
+        try {
+            if (defaultSchedule.getJournal() != null) {
+                return;
+            }
+            
+            Path dataDirectory = Paths.get(directory);
+            Files.createDirectories(dataDirectory);
+            snapshotFile = dataDirectory.resolve(SNAPSHOT_FILE);
+            ScheduleSnapshot snapshot = ScheduleSnapshot.read(snapshotFile);
+            defaultSchedule.clearIndexes();
+            for (Task task : snapshot.getTasks()) {
+                replayAdd(task);
+            }
+            
+            opened = ScheduleJournal.open(dataDirectory.resolve(JOURNAL_FILE), syncMode);
+            long replayed = 0;
+            if (opened.getGeneration() >= snapshot.getGeneration()) {
+                replayed = opened.replay(new JournalReplayer());
+            } else {
+                // The journal predates the snapshot, which already contains its records
+                opened.reset(snapshot.getGeneration());
+            }
+            defaultSchedule.setJournal(opened);
+            partitions.setDirectory(dataDirectory.resolve(PARTITIONS_DIRECTORY));
+            logger.info("Schedule restored from %s: %d tasks (%d journal records replayed)",
+                    directory, defaultSchedule.size(), replayed);
+        } catch (IOException e) {
+            // Leave nothing half restored: the caller keeps an empty, unjournaled schedule
+            if (opened != null) {
+                opened.close();
+            }
+            defaultSchedule.clearIndexes();
+            snapshotFile = null;
+            logger.error("Failed to enable schedule persistence: %s", e.getMessage());
+        } finally {
+            defaultSchedule.unlockAll();
+        }
+    }
+    
+    public void checkpoint() {
+        defaultSchedule.lockAll();
+        try {
+            ScheduleJournal current = defaultSchedule.getJournal();
+            if (current == null) {
+                return;
+            }
+            long generation = current.getGeneration() + 1;
+            ScheduleSnapshot.write(snapshotFile, defaultSchedule.getTasks(), generation);
+            current.reset(generation);
+            logger.info("Schedule snapshot written: %d tasks", defaultSchedule.size());
+        } catch (IOException e) {
+            logger.error("Failed to write schedule snapshot: %s", e.getMessage());
+        } finally {
+            defaultSchedule.unlockAll();
+        }
+    }
+    
+    // Crew partitions are not journaled; they reach disk when evicted and here
+    public void closePersistence() {
+        partitions.flushAll();
+        ScheduleJournal current = defaultSchedule.getJournal();
+        if (current == null) {
+            return;
+        }
+        checkpoint();
+        defaultSchedule.setJournal(null);
+        current.close();
+    }
+    
+    // A mutation is applied only once its journal record is written, so one that could not be
+    // recorded is refused instead of silently vanishing on the next restart
+    private static boolean recorded(ScheduleJournal current, long sequence) {
+        return current == null || sequence > 0;
+    }
+    
+    private void commitJournal(ScheduleJournal current, long sequence) {
+        if (current == null) {
+            return;
+        }
+        current.commit(sequence);
+        if (current.getRecordCount() >= SNAPSHOT_INTERVAL_RECORDS) {
+            checkpoint();
+        }
+    }
+    
+    private void replayAdd(Task task) {
+        if (defaultSchedule.findConflict(task) == null) {
+            defaultSchedule.indexTask(task);
+        }
+    }
+    
+    private class JournalReplayer implements JournalListener {
+        @Override
+        public void onAdd(Task task) {
+            replayAdd(task);
+        }
+        
+        @Override
+        public void onEdit(int oldStartMinutes, String newStartTime, String newEndTime, String newPriority) {
+            Task task = defaultSchedule.getTaskStartingAt(oldStartMinutes);
+            if (task != null) {
+                defaultSchedule.unindexTask(task);
+                task.setStartTime(newStartTime);
+                task.setEndTime(newEndTime);
+                task.setPriority(newPriority);
+                replayAdd(task);
+            }
+        }
+        
+        @Override
+        public void onRemove(int startMinutes) {
+            Task task = defaultSchedule.getTaskStartingAt(startMinutes);
+            if (task != null) {
+                defaultSchedule.unindexTask(task);
+            }
+        }
+        
+        @Override
+        public void onComplete(int startMinutes) {
+            Task task = defaultSchedule.getTaskStartingAt(startMinutes);
+            if (task != null) {
+                task.setCompleted(true);
+            }
+        }
+        
+        @Override
+        public void onClear() {
+            defaultSchedule.clearIndexes();
+        }
+    }
+    
     public void addObserver(TaskObserver observer) {
-        if (observer != null && !observers.contains(observer)) {
-            observers.add(observer);
+        if (observers.add(observer)) {
+            AsyncObserverDispatcher current = dispatcher;
+            if (current != null) {
+                current.add(observer);
+            }
             logger.info("Observer added to ScheduleManager");
         }
     }
     
     public void removeObserver(TaskObserver observer) {
         if (observers.remove(observer)) {
+            AsyncObserverDispatcher current = dispatcher;
+            if (current != null) {
+                current.remove(observer);
+            }
             logger.info("Observer removed from ScheduleManager");
         }
     }
     
+    // Conflicts are then queued per observer and delivered in coalesced batches on
+    // background threads, so callers such as bulk imports never wait on observer I/O
+    public synchronized void enableAsyncNotifications(int queueCapacity, long coalesceMillis,
+                                                      BackpressurePolicy policy) {
+        if (dispatcher == null) {
+            AsyncObserverDispatcher created = new AsyncObserverDispatcher(queueCapacity, coalesceMillis, policy);
+            // Publish before taking the snapshot: an observer added meanwhile is either in the
+            // snapshot or sees the dispatcher and registers itself
+            dispatcher = created;
+            ObserverRegistry.Snapshot<TaskObserver> registered = observers.snapshot();
+            for (int i = 0; i < registered.size(); i++) {
+                created.add(registered.get(i));
+            }
+            logger.info("Asynchronous observer notifications enabled");
+        }
+    }
+    
+    // Delivers queued conflicts and returns to synchronous notification
+    public synchronized void disableAsyncNotifications() {
+        AsyncObserverDispatcher current = dispatcher;
+        if (current != null) {
+            dispatcher = null;
+            current.close();
+        }
+    }
+    
     private void notifyObservers(String message, Task conflictingTask) {
-        for (TaskObserver observer : observers) {
+        AsyncObserverDispatcher current = dispatcher;
+        if (current != null) {
+            current.dispatch(observers.snapshot(), message, conflictingTask);
+            return;
+        }
+        
+        ObserverRegistry.Snapshot<TaskObserver> registered = observers.snapshot();
+        for (int i = 0; i < registered.size(); i++) {
             try {
-                observer.onTaskConflict(message, conflictingTask);
+                registered.get(i).onTaskConflict(message, conflictingTask);
             } catch (Exception e) {
-                logger.error("Error notifying observer: " + e.getMessage());
+                logger.error("Error notifying observer: %s", e.getMessage());
             }
         }
     }
     
     public boolean addTask(Task task) {
+        return addTask(defaultSchedule, task);
+    }
+    
+    public BatchResult addAll(Collection<Task> batch) {
+        return addAll(defaultSchedule, batch);
+    }
+    
+    public boolean removeTask(String description) {
+        return removeTask(defaultSchedule, description);
+    }
+    
+    public boolean editTask(String description, String newStartTime, String newEndTime, String newPriority) {
+        return editTask(defaultSchedule, description, newStartTime, newEndTime, newPriority);
+    }
+    
+    public boolean markTaskAsCompleted(String description) {
+        return markTaskAsCompleted(defaultSchedule, description);
+    }
+    
+    public List<Task> getAllTasks() {
+        return defaultSchedule.getTasks();
+    }
+    
+    public List<Task> getTasksSortedByStartTime() {
+        return defaultSchedule.getTasks();
+    }
+    
+    public List<Task> getTasksByPriority(String priority) {
+        return getTasksByPriority(defaultSchedule, priority);
+    }
+    
+    // Read-only live views for callers that only iterate; they cost no copy but may
+    // reflect changes made while iterating
+    public Collection<Task> viewTasksSortedByStartTime() {
+        return defaultSchedule.view();
+    }
+    
+    public Collection<Task> viewTasksByPriority(String priority) {
+        if (priority == null || priority.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        return defaultSchedule.viewByPriority(priority);
+    }
+    
+    public int getTaskCount() {
+        return defaultSchedule.size();
+    }
+    
+    public List<TimeSlot> findFreeSlots(int durationMinutes, String windowStart, String windowEnd) {
+        return findFreeSlots(defaultSchedule, durationMinutes, windowStart, windowEnd);
+    }
+    
+    public BatchResult autoSchedule(Collection<PlacementRequest> requests) {
+        return autoSchedule(defaultSchedule, requests);
+    }
+    
+    public boolean clearAllTasks() {
+        return clearAllTasks(defaultSchedule);
+    }
+    
+    // Per crew member, per day schedules. Each call pins only its own partition, loading it
+    // from disk if it was evicted, so unrelated crew members never share locks.
+    public boolean addTask(String crewMember, LocalDate date, Task task) {
+        DaySchedule day = acquirePartition(crewMember, date);
+        if (day == null) {
+            return false;
+        }
+        try {
+            return addTask(day, task);
+        } finally {
+            partitions.release(day);
+        }
+    }
+    
+    public BatchResult addAll(String crewMember, LocalDate date, Collection<Task> batch) {
+        DaySchedule day = acquirePartition(crewMember, date);
+        if (day == null) {
+            return new BatchResult();
+        }
+        try {
+            return addAll(day, batch);
+        } finally {
+            partitions.release(day);
+        }
+    }
+    
+    public boolean removeTask(String crewMember, LocalDate date, String description) {
+        DaySchedule day = acquirePartition(crewMember, date);
+        if (day == null) {
+            return false;
+        }
+        try {
+            return removeTask(day, description);
+        } finally {
+            partitions.release(day);
+        }
+    }
+    
+    public boolean editTask(String crewMember, LocalDate date, String description,
+                            String newStartTime, String newEndTime, String newPriority) {
+        DaySchedule day = acquirePartition(crewMember, date);
+        if (day == null) {
+            return false;
+        }
+        try {
+            return editTask(day, description, newStartTime, newEndTime, newPriority);
+        } finally {
+            partitions.release(day);
+        }
+    }
+    
+    public boolean markTaskAsCompleted(String crewMember, LocalDate date, String description) {
+        DaySchedule day = acquirePartition(crewMember, date);
+        if (day == null) {
+            return false;
+        }
+        try {
+            return markTaskAsCompleted(day, description);
+        } finally {
+            partitions.release(day);
+        }
+    }
+    
+    public List<Task> getTasksSortedByStartTime(String crewMember, LocalDate date) {
+        DaySchedule day = acquirePartition(crewMember, date);
+        if (day == null) {
+            return new ArrayList<>();
+        }
+        try {
+            return day.getTasks();
+        } finally {
+            partitions.release(day);
+        }
+    }
+    
+    public List<Task> getTasksByPriority(String crewMember, LocalDate date, String priority) {
+        DaySchedule day = acquirePartition(crewMember, date);
+        if (day == null) {
+            return new ArrayList<>();
+        }
+        try {
+            return getTasksByPriority(day, priority);
+        } finally {
+            partitions.release(day);
+        }
+    }
+    
+    public int getTaskCount(String crewMember, LocalDate date) {
+        DaySchedule day = acquirePartition(crewMember, date);
+        if (day == null) {
+            return 0;
+        }
+        try {
+            return day.size();
+        } finally {
+            partitions.release(day);
+        }
+    }
+    
+    public boolean clearAllTasks(String crewMember, LocalDate date) {
+        DaySchedule day = acquirePartition(crewMember, date);
+        if (day == null) {
+            return false;
+        }
+        try {
+            return clearAllTasks(day);
+        } finally {
+            partitions.release(day);
+        }
+    }
+    
+    public List<TimeSlot> findFreeSlots(String crewMember, LocalDate date, int durationMinutes,
+                                        String windowStart, String windowEnd) {
+        DaySchedule day = acquirePartition(crewMember, date);
+        if (day == null) {
+            return new ArrayList<>();
+        }
+        try {
+            return findFreeSlots(day, durationMinutes, windowStart, windowEnd);
+        } finally {
+            partitions.release(day);
+        }
+    }
+    
+    public BatchResult autoSchedule(String crewMember, LocalDate date, Collection<PlacementRequest> requests) {
+        DaySchedule day = acquirePartition(crewMember, date);
+        if (day == null) {
+            return new BatchResult();
+        }
+        try {
+            return autoSchedule(day, requests);
+        } finally {
+            partitions.release(day);
+        }
+    }
+    
+    public void setMaxResidentPartitions(int maxResident) {
+        partitions.setMaxResident(maxResident);
+    }
+    
+    public int getResidentPartitionCount() {
+        return partitions.getResidentCount();
+    }
+    
+    private DaySchedule acquirePartition(String crewMember, LocalDate date) {
+        if (crewMember == null || crewMember.trim().isEmpty() || date == null) {
+            logger.error("Crew member and date are required for a partitioned schedule");
+            return null;
+        }
+        return partitions.acquire(crewMember, date);
+    }
+    
+    private boolean addTask(DaySchedule day, Task task) {
         if (task == null) {
             logger.error("Attempted to add null task");
             return false;
         }
         
         // Check for conflicts
-        Task conflictingTask = findConflictingTask(task);
+        Task conflictingTask;
+        ScheduleJournal current = day.getJournal();
+        long sequence = 0;
+        day.lock(task.getStartMinutes(), task.getEndMinutes());
+        try {
+            conflictingTask = day.findConflict(task);
+            if (conflictingTask == null) {
+                if (current != null) {
+                    sequence = current.appendAdd(task);
+                }
+                if (recorded(current, sequence)) {
+                    day.indexTask(task);
+                }
+            }
+        } finally {
+            day.unlock(task.getStartMinutes(), task.getEndMinutes());
+        }
+        
         if (conflictingTask != null) {
             String message = "Task conflicts with existing task: " + conflictingTask.getDescription();
             logger.warn(message);
             notifyObservers(message, conflictingTask);
             return false;
         }
+        if (!recorded(current, sequence)) {
+            logger.error("Task not added, the schedule journal could not record it: %s", task.getDescription());
+            return false;
+        }
         
-        tasks.add(task);
-        logger.info("Task added: " + task.getDescription());
+        commitJournal(current, sequence);
+        logger.info("Task added: %s", task.getDescription());
         return true;
     }
     
-    private Task findConflictingTask(Task newTask) {
-        for (Task existingTask : tasks) {
-            if (newTask.overlapsWith(existingTask)) {
-                return existingTask;
+    // Sorts the batch once by start time and admits it in that order while holding every
+    // bucket, so each item costs one O(log(n + m)) index probe and the earliest task wins
+    // any conflict inside the batch. Observers get one summary instead of one call per item.
+    private BatchResult addAll(DaySchedule day, Collection<Task> batch) {
+        BatchResult result = new BatchResult();
+        if (batch == null || batch.isEmpty()) {
+            return result;
+        }
+        
+        List<Task> input = new ArrayList<>(batch);
+        BatchResult.Item[] items = new BatchResult.Item[input.size()];
+        List<Integer> order = new ArrayList<>(input.size());
+        for (int i = 0; i < input.size(); i++) {
+            if (input.get(i) == null) {
+                items[i] = new BatchResult.Item(i, null, BatchResult.Status.INVALID, "Task cannot be null");
+            } else {
+                order.add(i);
+            }
+        }
+        order.sort(Comparator.comparingInt(i -> input.get(i).getStartMinutes()));
+        
+        Task firstConflict = null;
+        ScheduleJournal current = day.getJournal();
+        long sequence = 0;
+        day.lockAll();
+        try {
+            for (int i : order) {
+                Task task = input.get(i);
+                Task conflictingTask = day.findConflict(task);
+                if (conflictingTask == null) {
+                    long appended = current != null ? current.appendAdd(task) : 0;
+                    if (!recorded(current, appended)) {
+                        items[i] = new BatchResult.Item(i, task, BatchResult.Status.FAILED,
+                                "Schedule journal could not record the task");
+                        continue;
+                    }
+                    sequence = Math.max(sequence, appended);
+                    day.indexTask(task);
+                    items[i] = new BatchResult.Item(i, task, BatchResult.Status.ADDED, "Task added");
+                } else {
+                    if (firstConflict == null) {
+                        firstConflict = conflictingTask;
+                    }
+                    items[i] = new BatchResult.Item(i, task, BatchResult.Status.CONFLICT,
+                            "Task conflicts with existing task: " + conflictingTask.getDescription());
+                }
             }
+        } finally {
+            day.unlockAll();
+        }
+        
+        // One commit makes the whole batch durable
+        commitJournal(current, sequence);
+        for (BatchResult.Item item : items) {
+            result.record(item);
+        }
+        
+        logger.info("Batch add: %s", result);
+        int failed = result.getCount(BatchResult.Status.FAILED);
+        if (failed > 0) {
+            logger.error("%d tasks in the batch were not added, the schedule journal could not record them", failed);
+        }
+        int conflicts = result.getCount(BatchResult.Status.CONFLICT);
+        if (conflicts > 0) {
+            String message = conflicts + " tasks in the batch conflict with the schedule";
+            logger.warn(message);
+            notifyObservers(message, firstConflict);
         }
-        return null;
+        return result;
     }
     
-    public boolean removeTask(String description) {
+    // Unlocked read: the slots are a suggestion and may be taken before the caller adds a task
+    private List<TimeSlot> findFreeSlots(DaySchedule day, int durationMinutes, String windowStart, String windowEnd) {
+        int windowStartMinutes = TimeValidator.parseMinutes(windowStart);
+        int windowEndMinutes = TimeValidator.parseMinutes(windowEnd);
+        if (durationMinutes <= 0 || windowStartMinutes < 0 || windowEndMinutes <= windowStartMinutes) {
+            logger.error("Invalid free slot query: %d minutes between %s and %s",
+                    durationMinutes, windowStart, windowEnd);
+            return new ArrayList<>();
+        }
+        return day.findFreeSlots(durationMinutes, windowStartMinutes, windowEndMinutes);
+    }
+    
+    // Places the requests High before Medium before Low; within a priority the tightest
+    // window goes first and longer tasks before shorter ones. Each task takes the earliest
+    // gap in its window, which packs the day from the left and keeps gaps small.
+    private BatchResult autoSchedule(DaySchedule day, Collection<PlacementRequest> requests) {
+        BatchResult result = new BatchResult();
+        if (requests == null || requests.isEmpty()) {
+            return result;
+        }
+        
+        List<PlacementRequest> input = new ArrayList<>(requests);
+        BatchResult.Item[] items = new BatchResult.Item[input.size()];
+        int[] windowStarts = new int[input.size()];
+        int[] windowEnds = new int[input.size()];
+        int[] ranks = new int[input.size()];
+        List<Integer> order = new ArrayList<>(input.size());
+        for (int i = 0; i < input.size(); i++) {
+            PlacementRequest request = input.get(i);
+            String error = null;
+            if (request == null) {
+                error = "Placement request cannot be null";
+            } else {
+                windowStarts[i] = TimeValidator.parseMinutes(request.getWindowStart());
+                windowEnds[i] = TimeValidator.parseMinutes(request.getWindowEnd());
+                if (!InputValidator.isValidDescription(request.getDescription())) {
+                    error = "Task description cannot be null or empty";
+                } else if (!InputValidator.isValidPriority(request.getPriority())) {
+                    error = "Priority must be High, Medium, or Low";
+                } else if (request.getDurationMinutes() <= 0) {
+                    error = "Duration must be positive";
+                } else if (windowStarts[i] < 0 || windowEnds[i] < 0) {
+                    error = "Invalid window time format. Use HH:MM (24-hour format)";
+                } else if (windowEnds[i] - windowStarts[i] < request.getDurationMinutes()) {
+                    error = "Window is shorter than the task";
+                }
+            }
+            
+            if (error != null) {
+                items[i] = new BatchResult.Item(i, null, BatchResult.Status.INVALID, error);
+            } else {
+                ranks[i] = priorityRank(InputValidator.normalizePriority(request.getPriority()));
+                order.add(i);
+            }
+        }
+        order.sort(Comparator.<Integer>comparingInt(i -> ranks[i])
+                .thenComparingInt(i -> windowEnds[i] - windowStarts[i])
+                .thenComparingInt(i -> -input.get(i).getDurationMinutes()));
+        
+        ScheduleJournal current = day.getJournal();
+        long sequence = 0;
+        day.lockAll();
+        try {
+            for (int i : order) {
+                PlacementRequest request = input.get(i);
+                int duration = request.getDurationMinutes();
+                int start = day.findEarliestFit(duration, windowStarts[i], windowEnds[i]);
+                if (start < 0) {
+                    items[i] = new BatchResult.Item(i, null, BatchResult.Status.UNPLACED,
+                            "No free " + duration + "-minute slot between " + request.getWindowStart()
+                            + " and " + request.getWindowEnd());
+                    continue;
+                }
+                
+                Task task = new Task(request.getDescription().trim(), TimeValidator.convertMinutesToTime(start),
+                                     TimeValidator.convertMinutesToTime(start + duration),
+                                     InputValidator.normalizePriority(request.getPriority()));
+                long appended = current != null ? current.appendAdd(task) : 0;
+                if (!recorded(current, appended)) {
+                    items[i] = new BatchResult.Item(i, null, BatchResult.Status.FAILED,
+                            "Schedule journal could not record the task");
+                    continue;
+                }
+                sequence = Math.max(sequence, appended);
+                day.indexTask(task);
+                items[i] = new BatchResult.Item(i, task, BatchResult.Status.ADDED, "Placed at " + task.getStartTime());
+            }
+        } finally {
+            day.unlockAll();
+        }
+        
+        commitJournal(current, sequence);
+        for (BatchResult.Item item : items) {
+            result.record(item);
+        }
+        
+        logger.info("Auto-schedule: %s", result);
+        int unplaced = result.getCount(BatchResult.Status.UNPLACED);
+        if (unplaced > 0) {
+            logger.warn("%d tasks could not be placed", unplaced);
+        }
+        int failed = result.getCount(BatchResult.Status.FAILED);
+        if (failed > 0) {
+            logger.error("%d placed tasks were not added, the schedule journal could not record them", failed);
+        }
+        return result;
+    }
+    
+    private static int priorityRank(String priority) {
+        switch (priority) {
+            case "High":
+                return 0;
+            case "Medium":
+                return 1;
+            default:
+                return 2;
+        }
+    }
+    
+    private boolean removeTask(DaySchedule day, String description) {
         if (description == null || description.trim().isEmpty()) {
             logger.error("Invalid task description for removal");
             return false;
         }
         
-        Task taskToRemove = null;
-        for (Task task : tasks) {
-            if (task.getDescription().equalsIgnoreCase(description.trim())) {
-                taskToRemove = task;
-                break;
-            }
-        }
+        Task taskToRemove = day.lockTask(description);
         
         if (taskToRemove != null) {
-            tasks.remove(taskToRemove);
-            logger.info("Task removed: " + description);
+            ScheduleJournal current = day.getJournal();
+            long sequence = 0;
+            try {
+                if (current != null) {
+                    sequence = current.appendRemove(taskToRemove.getStartMinutes());
+                }
+                if (recorded(current, sequence)) {
+                    day.unindexTask(taskToRemove);
+                }
+            } finally {
+                day.unlock(taskToRemove.getStartMinutes(), taskToRemove.getEndMinutes());
+            }
+            if (!recorded(current, sequence)) {
+                logger.error("Task not removed, the schedule journal could not record it: %s", description);
+                return false;
+            }
+            commitJournal(current, sequence);
+            logger.info("Task removed: %s", description);
             return true;
         } else {
-            logger.warn("Task not found for removal: " + description);
+            logger.warn("Task not found for removal: %s", description);
             return false;
         }
     }
     
-    public List<Task> getAllTasks() {
-        return new ArrayList<>(tasks);
-    }
-    
-    public List<Task> getTasksSortedByStartTime() {
-        return tasks.stream()
-                .sorted((t1, t2) -> Integer.compare(t1.getStartMinutes(), t2.getStartMinutes()))
-                .collect(Collectors.toList());
-    }
-    
-    public List<Task> getTasksByPriority(String priority) {
+    private List<Task> getTasksByPriority(DaySchedule day, String priority) {
         if (priority == null || priority.trim().isEmpty()) {
             return new ArrayList<>();
         }
         
-        return tasks.stream()
-                .filter(task -> task.getPriority().equalsIgnoreCase(priority.trim()))
-                .sorted((t1, t2) -> Integer.compare(t1.getStartMinutes(), t2.getStartMinutes()))
-                .collect(Collectors.toList());
+        return new ArrayList<>(day.viewByPriority(priority));
     }
     
-    public boolean editTask(String description, String newStartTime, String newEndTime, String newPriority) {
-        Task taskToEdit = null;
-        for (Task task : tasks) {
-            if (task.getDescription().equalsIgnoreCase(description.trim())) {
-                taskToEdit = task;
-                break;
-            }
+    private boolean editTask(DaySchedule day, String description, String newStartTime, String newEndTime,
+                             String newPriority) {
+        if (description == null || description.trim().isEmpty()) {
+            logger.error("Invalid task description for editing");
+            return false;
         }
         
-        if (taskToEdit == null) {
-            logger.warn("Task not found for editing: " + description);
+        // Same checks as TaskFactory.createTask, reported as a failed edit instead of thrown
+        int newStartMinutes = TimeValidator.parseMinutes(newStartTime);
+        int newEndMinutes = TimeValidator.parseMinutes(newEndTime);
+        if (newStartMinutes < 0 || newEndMinutes < 0) {
+            logger.error("Invalid time format for editing: %s - %s", newStartTime, newEndTime);
+            return false;
+        }
+        if (newEndMinutes <= newStartMinutes) {
+            logger.error("End time must be after start time: %s - %s", newStartTime, newEndTime);
+            return false;
+        }
+        if (!InputValidator.isValidPriority(newPriority)) {
+            logger.error("Invalid priority level: %s", newPriority);
             return false;
         }
         
-        // Temporarily remove the task to check conflicts
-        tasks.remove(taskToEdit);
+        Task taskToEdit;
+        Task conflictingTask;
+        ScheduleJournal current = day.getJournal();
+        long sequence = 0;
+        int lockStart;
+        int lockEnd;
+        while (true) {
+            taskToEdit = day.findTask(description);
+            if (taskToEdit == null) {
+                logger.warn("Task not found for editing: %s", description);
+                return false;
+            }
+            
+            // Lock the span covering both the old and the new slot, in one ascending pass
+            int oldStartMinutes = taskToEdit.getStartMinutes();
+            int oldEndMinutes = taskToEdit.getEndMinutes();
+            lockStart = Math.min(oldStartMinutes, newStartMinutes);
+            lockEnd = Math.max(oldEndMinutes, newEndMinutes);
+            day.lock(lockStart, lockEnd);
+            if (day.contains(taskToEdit) && taskToEdit.getStartMinutes() == oldStartMinutes
+                    && taskToEdit.getEndMinutes() == oldEndMinutes) {
+                break;
+            }
+            day.unlock(lockStart, lockEnd);
+        }
         
-        // Update task details
-        taskToEdit.setStartTime(newStartTime);
-        taskToEdit.setEndTime(newEndTime);
-        taskToEdit.setPriority(newPriority);
+        try {
+            // Temporarily remove the task to check conflicts
+            day.unindexTask(taskToEdit);
+            int oldStartMinutes = taskToEdit.getStartMinutes();
+            String oldStartTime = taskToEdit.getStartTime();
+            String oldEndTime = taskToEdit.getEndTime();
+            String oldPriority = taskToEdit.getPriority();
+            
+            // Update task details
+            taskToEdit.setStartTime(newStartTime);
+            taskToEdit.setEndTime(newEndTime);
+            taskToEdit.setPriority(newPriority);
+            
+            // Check for conflicts with the updated task
+            conflictingTask = day.findConflict(taskToEdit);
+            if (conflictingTask == null && current != null) {
+                sequence = current.appendEdit(oldStartMinutes, taskToEdit);
+            }
+            if (conflictingTask != null || !recorded(current, sequence)) {
+                // Revert and add back the original task
+                taskToEdit.setStartTime(oldStartTime);
+                taskToEdit.setEndTime(oldEndTime);
+                taskToEdit.setPriority(oldPriority);
+            }
+            day.indexTask(taskToEdit);
+        } finally {
+            day.unlock(lockStart, lockEnd);
+        }
         
-        // Check for conflicts with the updated task
-        Task conflictingTask = findConflictingTask(taskToEdit);
         if (conflictingTask != null) {
-            // Revert and add back the original task
-            tasks.add(taskToEdit);
             String message = "Updated task conflicts with: " + conflictingTask.getDescription();
             logger.warn(message);
             notifyObservers(message, conflictingTask);
             return false;
         }
+        if (!recorded(current, sequence)) {
+            logger.error("Task not edited, the schedule journal could not record it: %s", description);
+            return false;
+        }
         
-        tasks.add(taskToEdit);
-        logger.info("Task edited: " + description);
+        commitJournal(current, sequence);
+        logger.info("Task edited: %s", description);
         return true;
     }
     
-    public boolean markTaskAsCompleted(String description) {
+    private boolean markTaskAsCompleted(DaySchedule day, String description) {
         if (description == null || description.trim().isEmpty()) {
             return false;
         }
         
-        for (Task task : tasks) {
-            if (task.getDescription().equalsIgnoreCase(description.trim())) {
-                task.setCompleted(true);
-                logger.info("Task marked as completed: " + description);
-                return true;
+        Task task = day.lockTask(description);
+        if (task != null) {
+            ScheduleJournal current = day.getJournal();
+            long sequence = 0;
+            try {
+                if (current != null) {
+                    sequence = current.appendComplete(task.getStartMinutes());
+                }
+                if (recorded(current, sequence)) {
+                    task.setCompleted(true);
+                }
+            } finally {
+                day.unlock(task.getStartMinutes(), task.getEndMinutes());
+            }
+            if (!recorded(current, sequence)) {
+                logger.error("Task not marked as completed, the schedule journal could not record it: %s",
+                        description);
+                return false;
             }
+            commitJournal(current, sequence);
+            logger.info("Task marked as completed: %s", description);
+            return true;
         }
         
-        logger.warn("Task not found to mark as completed: " + description);
+        logger.warn("Task not found to mark as completed: %s", description);
         return false;
     }
     
-    public int getTaskCount() {
-        return tasks.size();
-    }
-    
-    public void clearAllTasks() {
-        tasks.clear();
+    private boolean clearAllTasks(DaySchedule day) {
+        ScheduleJournal current = day.getJournal();
+        long sequence = 0;
+        day.lockAll();
+        try {
+            if (current != null) {
+                sequence = current.appendClear();
+            }
+            if (recorded(current, sequence)) {
+                day.clearIndexes();
+            }
+        } finally {
+            day.unlockAll();
+        }
+        if (!recorded(current, sequence)) {
+            logger.error("Tasks not cleared, the schedule journal could not record it");
+            return false;
+        }
+        commitJournal(current, sequence);
         logger.info("All tasks cleared");
+        return true;
     }
 }
\ No newline at end of file
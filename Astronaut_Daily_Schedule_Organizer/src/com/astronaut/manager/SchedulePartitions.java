@@ -0,0 +1,183 @@
+package com.astronaut.manager;
+
+import com.astronaut.model.Task;
+import com.astronaut.persistence.ScheduleSnapshot;
+import com.astronaut.util.Logger;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Lazily loads per crew member, per day schedules and writes the least recently used
+// ones to disk once more than maxResident are in memory
+public class SchedulePartitions {
+    private static final int DEFAULT_MAX_RESIDENT = 64;
+    
+    private final ConcurrentHashMap<String, DaySchedule> resident;
+    private final Logger logger;
+    private volatile Path directory;
+    private volatile Path temporaryDirectory;
+    private volatile int maxResident;
+    
+    public SchedulePartitions() {
+        this.resident = new ConcurrentHashMap<>();
+        this.logger = Logger.getInstance();
+        this.maxResident = DEFAULT_MAX_RESIDENT;
+    }
+    
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+    }
+    
+    public void setMaxResident(int maxResident) {
+        if (maxResident <= 0) {
+            throw new IllegalArgumentException("Resident partition limit must be positive");
+        }
+        this.maxResident = maxResident;
+    }
+    
+    public int getResidentCount() {
+        return resident.size();
+    }
+    
+    // Returns the partition pinned so it cannot be evicted until release(), or null if it cannot be loaded
+    public DaySchedule acquire(String crewMember, LocalDate date) {
+        String key = keyOf(crewMember, date);
+        while (true) {
+            DaySchedule day;
+            try {
+                day = resident.computeIfAbsent(key, k -> load(crewMember.trim(), date));
+            } catch (IllegalStateException e) {
+                logger.error(e.getMessage());
+                return null;
+            }
+            
+            if (day.pin()) {
+                evictColdPartitions();
+                return day;
+            }
+            // Being written out by an eviction; it leaves the map once its snapshot is on disk
+            Thread.yield();
+        }
+    }
+    
+    public void release(DaySchedule day) {
+        day.unpin();
+    }
+    
+    private DaySchedule load(String crewMember, LocalDate date) {
+        DaySchedule day = new DaySchedule(crewMember, date);
+        if (directory == null && temporaryDirectory == null) {
+            return day;
+        }
+        
+        try {
+            Path file = fileOf(crewMember, date);
+            if (!Files.exists(file)) {
+                return day;
+            }
+            for (Task task : ScheduleSnapshot.read(file).getTasks()) {
+                if (day.findConflict(task) == null) {
+                    day.indexTask(task);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load schedule of " + crewMember + " on " + date
+                    + ": " + e.getMessage(), e);
+        }
+        return day;
+    }
+    
+    private void evictColdPartitions() {
+        int attempts = resident.size();
+        while (resident.size() > maxResident && attempts-- > 0) {
+            DaySchedule coldest = null;
+            for (DaySchedule candidate : resident.values()) {
+                if (candidate.isIdle() && (coldest == null
+                        || candidate.getLastAccessNanos() < coldest.getLastAccessNanos())) {
+                    coldest = candidate;
+                }
+            }
+            if (coldest == null) {
+                // Every partition is in use; try again on the next acquire
+                return;
+            }
+            if (!coldest.retire()) {
+                continue;
+            }
+            if (!write(coldest)) {
+                coldest.reinstate();
+                return;
+            }
+            resident.remove(keyOf(coldest.getCrewMember(), coldest.getDate()), coldest);
+            logger.debug("Evicted schedule of %s on %s", coldest.getCrewMember(), coldest.getDate());
+        }
+    }
+    
+    // Writes every resident partition to the configured directory without evicting it
+    public void flushAll() {
+        if (directory == null) {
+            return;
+        }
+        for (DaySchedule day : resident.values()) {
+            write(day);
+        }
+    }
+    
+    private boolean write(DaySchedule day) {
+        day.lockAll();
+        try {
+            Path file = fileOf(day.getCrewMember(), day.getDate());
+            Files.createDirectories(file.getParent());
+            ScheduleSnapshot.write(file, day.getTasks(), 0);
+            Path temporary = temporaryDirectory;
+            if (temporary != null && file.startsWith(temporary)) {
+                // Registered after their directories, so they are deleted first
+                file.getParent().toFile().deleteOnExit();
+                file.toFile().deleteOnExit();
+            }
+            return true;
+        } catch (IOException e) {
+            logger.error("Failed to write schedule of %s on %s: %s",
+                    day.getCrewMember(), day.getDate(), e.getMessage());
+            return false;
+        } finally {
+            day.unlockAll();
+        }
+    }
+    
+    private Path fileOf(String crewMember, LocalDate date) throws IOException {
+        Path base = directory;
+        if (base == null) {
+            base = getTemporaryDirectory();
+        }
+        String crewDirectory = "crew-" + encode(crewMember.trim().toLowerCase(Locale.ROOT));
+        return base.resolve(crewDirectory).resolve(date + ".snapshot");
+    }
+    
+    // Without persistence, evicted partitions only need to outlive their eviction, so they go to
+    // a directory that is removed when the process exits
+    private synchronized Path getTemporaryDirectory() throws IOException {
+        if (temporaryDirectory == null) {
+            temporaryDirectory = Files.createTempDirectory("schedule-partitions");
+            temporaryDirectory.toFile().deleteOnExit();
+        }
+        return temporaryDirectory;
+    }
+    
+    private static String encode(String crewMember) {
+        try {
+            return URLEncoder.encode(crewMember, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private static String keyOf(String crewMember, LocalDate date) {
+        return crewMember.trim().toLowerCase(Locale.ROOT) + '|' + date;
+    }
+}
@@ -0,0 +1,53 @@
+package com.astronaut.manager;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+public class TimeBucketLocks {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    
+    private final int bucketMinutes;
+    private final ReentrantLock[] locks;
+    
+    public TimeBucketLocks(int bucketMinutes) {
+        if (bucketMinutes <= 0) {
+            throw new IllegalArgumentException("Bucket size must be positive");
+        }
+        this.bucketMinutes = bucketMinutes;
+        this.locks = new ReentrantLock[(MINUTES_PER_DAY + bucketMinutes - 1) / bucketMinutes];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+    
+    // Two overlapping intervals always share the bucket of a common minute, so they
+    // serialize on it. Buckets are taken in ascending order to rule out deadlock.
+    public void lock(int startMinutes, int endMinutes) {
+        int last = bucketOf(endMinutes - 1);
+        for (int i = bucketOf(startMinutes); i <= last; i++) {
+            locks[i].lock();
+        }
+    }
+    
+    public void unlock(int startMinutes, int endMinutes) {
+        int first = bucketOf(startMinutes);
+        for (int i = bucketOf(endMinutes - 1); i >= first; i--) {
+            locks[i].unlock();
+        }
+    }
+    
+    public void lockAll() {
+        lock(0, MINUTES_PER_DAY);
+    }
+    
+    public void unlockAll() {
+        unlock(0, MINUTES_PER_DAY);
+    }
+    
+    private int bucketOf(int minute) {
+        int bucket = minute / bucketMinutes;
+        if (bucket < 0) {
+            return 0;
+        }
+        return Math.min(bucket, locks.length - 1);
+    }
+}
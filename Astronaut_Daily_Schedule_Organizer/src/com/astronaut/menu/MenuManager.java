@@ -7,7 +7,7 @@ import com.astronaut.observer.ConflictNotifier;
 import com.astronaut.util.Logger;
 import com.astronaut.util.InputValidator;
 import java.util.Scanner;
-import java.util.List;
+import java.util.Collection;
 
 public class MenuManager {
     private final Scanner scanner;
@@ -63,13 +63,13 @@ public class MenuManager {
             int choice = Integer.parseInt(input.trim());
             processChoice(choice);
         } catch (Exception e) {
-            logger.error("Error processing input: " + e.getMessage());
+            logger.error("Error processing input: %s", e.getMessage());
             System.out.println("⚠ An error occurred. Please try again.");
         }
     }
     
     private void processChoice(int choice) {
-        logger.info("User selected option: " + choice);
+        logger.info("User selected option: %s", choice);
         
         try {
             switch (choice) {
@@ -99,7 +99,7 @@ public class MenuManager {
                     System.out.println("⚠ Invalid option.");
             }
         } catch (Exception e) {
-            logger.error("Error executing option " + choice + ": " + e.getMessage());
+            logger.error("Error executing option %d: %s", choice, e.getMessage());
             System.out.println("⚠ Error: " + e.getMessage());
         }
     }
@@ -157,14 +157,15 @@ public class MenuManager {
         System.out.println("║           ALL SCHEDULED TASKS                ║");
         System.out.println("╚══════════════════════════════════════════════╝");
         
-        List<Task> tasks = scheduleManager.getTasksSortedByStartTime();
+        Collection<Task> tasks = scheduleManager.viewTasksSortedByStartTime();
         
         if (tasks.isEmpty()) {
             System.out.println("📭 No tasks scheduled for the day.");
         } else {
             System.out.println("Total Tasks: " + tasks.size() + "\n");
-            for (int i = 0; i < tasks.size(); i++) {
-                System.out.println((i + 1) + ". " + tasks.get(i).toString());
+            int number = 1;
+            for (Task task : tasks) {
+                System.out.println(number++ + ". " + task.toString());
             }
         }
         System.out.println("══════════════════════════════════════════════");
@@ -180,7 +181,7 @@ public class MenuManager {
             return;
         }
         
-        List<Task> tasks = scheduleManager.getTasksByPriority(priority);
+        Collection<Task> tasks = scheduleManager.viewTasksByPriority(priority);
         
         System.out.println("\n╔══════════════════════════════════════════════╗");
         System.out.println("║     TASKS WITH PRIORITY: " + InputValidator.normalizePriority(priority).toUpperCase());
@@ -190,8 +191,9 @@ public class MenuManager {
             System.out.println("📭 No tasks found with priority: " + priority);
         } else {
             System.out.println("Total Tasks: " + tasks.size() + "\n");
-            for (int i = 0; i < tasks.size(); i++) {
-                System.out.println((i + 1) + ". " + tasks.get(i).toString());
+            int number = 1;
+            for (Task task : tasks) {
+                System.out.println(number++ + ". " + task.toString());
             }
         }
         System.out.println("══════════════════════════════════════════════");
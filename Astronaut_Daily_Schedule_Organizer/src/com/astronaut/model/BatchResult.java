@@ -0,0 +1,101 @@
+package com.astronaut.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class BatchResult {
+    public enum Status {
+        CREATED,
+        ADDED,
+        INVALID,
+        CONFLICT,
+        UNPLACED,
+        FAILED
+    }
+    
+    private final List<Item> items;
+    private final int[] counts;
+    
+    public BatchResult() {
+        this.items = new ArrayList<>();
+        this.counts = new int[Status.values().length];
+    }
+    
+    public void record(int index, Task task, Status status, String message) {
+        record(new Item(index, task, status, message));
+    }
+    
+    public void record(Item item) {
+        items.add(item);
+        counts[item.getStatus().ordinal()]++;
+    }
+    
+    public List<Item> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+    
+    public List<Task> getTasks(Status status) {
+        List<Task> tasks = new ArrayList<>(counts[status.ordinal()]);
+        for (Item item : items) {
+            if (item.status == status) {
+                tasks.add(item.task);
+            }
+        }
+        return tasks;
+    }
+    
+    public int getCount(Status status) {
+        return counts[status.ordinal()];
+    }
+    
+    public int size() {
+        return items.size();
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder("Batch of ").append(items.size()).append(" items:");
+        for (Status status : Status.values()) {
+            if (counts[status.ordinal()] > 0) {
+                summary.append(' ').append(status.name().toLowerCase()).append('=').append(counts[status.ordinal()]);
+            }
+        }
+        return summary.toString();
+    }
+    
+    public static class Item {
+        private final int index;
+        private final Task task;
+        private final Status status;
+        private final String message;
+        
+        public Item(int index, Task task, Status status, String message) {
+            this.index = index;
+            this.task = task;
+            this.status = status;
+            this.message = message;
+        }
+        
+        public int getIndex() {
+            return index;
+        }
+        
+        public Task getTask() {
+            return task;
+        }
+        
+        public Status getStatus() {
+            return status;
+        }
+        
+        public String getMessage() {
+            return message;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("#%d %s: %s", index, status, message);
+        }
+    }
+}
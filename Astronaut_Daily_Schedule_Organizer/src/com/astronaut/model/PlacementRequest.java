@@ -0,0 +1,49 @@
+package com.astronaut.model;
+
+// A task to be placed by the auto-scheduler: how long it takes and the window it must fit in
+public class PlacementRequest {
+    private final String description;
+    private final int durationMinutes;
+    private final String priority;
+    private final String windowStart;
+    private final String windowEnd;
+    
+    public PlacementRequest(String description, int durationMinutes, String priority,
+                            String windowStart, String windowEnd) {
+        this.description = description;
+        this.durationMinutes = durationMinutes;
+        this.priority = priority;
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+    }
+    
+    public PlacementRequest(String description, int durationMinutes, String priority) {
+        this(description, durationMinutes, priority, "00:00", "23:59");
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public int getDurationMinutes() {
+        return durationMinutes;
+    }
+    
+    public String getPriority() {
+        return priority;
+    }
+    
+    public String getWindowStart() {
+        return windowStart;
+    }
+    
+    public String getWindowEnd() {
+        return windowEnd;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%s (%d min, %s, %s - %s)",
+                description, durationMinutes, priority, windowStart, windowEnd);
+    }
+}
@@ -1,16 +1,22 @@
 package com.astronaut.model;
 
+import com.astronaut.util.TimeValidator;
+
 public class Task {
     private String description;
     private String startTime;
     private String endTime;
     private String priority;
     private boolean completed;
+    private int startMinutes;
+    private int endMinutes;
     
     public Task(String description, String startTime, String endTime, String priority) {
         this.description = description;
         this.startTime = startTime;
         this.endTime = endTime;
+        this.startMinutes = TimeValidator.convertToMinutes(startTime);
+        this.endMinutes = TimeValidator.convertToMinutes(endTime);
         this.priority = priority;
         this.completed = false;
     }
@@ -28,6 +34,7 @@ public class Task {
     }
     
     public void setStartTime(String startTime) {
+        this.startMinutes = TimeValidator.convertToMinutes(startTime);
         this.startTime = startTime;
     }
     
@@ -36,6 +43,7 @@ public class Task {
     }
     
     public void setEndTime(String endTime) {
+        this.endMinutes = TimeValidator.convertToMinutes(endTime);
         this.endTime = endTime;
     }
     
@@ -56,13 +64,11 @@ public class Task {
     }
     
     public int getStartMinutes() {
-        String[] parts = startTime.split(":");
-        return Integer.parseInt(parts[0]) * 60 + Integer.parseInt(parts[1]);
+        return startMinutes;
     }
     
     public int getEndMinutes() {
-        String[] parts = endTime.split(":");
-        return Integer.parseInt(parts[0]) * 60 + Integer.parseInt(parts[1]);
+        return endMinutes;
     }
     
     public boolean overlapsWith(Task other) {
@@ -70,12 +76,7 @@ public class Task {
             return false;
         }
         
-        int thisStart = this.getStartMinutes();
-        int thisEnd = this.getEndMinutes();
-        int otherStart = other.getStartMinutes();
-        int otherEnd = other.getEndMinutes();
-        
-        return (thisStart < otherEnd && thisEnd > otherStart);
+        return (startMinutes < other.endMinutes && endMinutes > other.startMinutes);
     }
     
     @Override
@@ -0,0 +1,41 @@
+package com.astronaut.model;
+
+import com.astronaut.util.TimeValidator;
+
+public class TimeSlot {
+    private final int startMinutes;
+    private final int endMinutes;
+    
+    public TimeSlot(int startMinutes, int endMinutes) {
+        if (startMinutes < 0 || endMinutes <= startMinutes) {
+            throw new IllegalArgumentException("Time slot must end after it starts");
+        }
+        this.startMinutes = startMinutes;
+        this.endMinutes = endMinutes;
+    }
+    
+    public int getStartMinutes() {
+        return startMinutes;
+    }
+    
+    public int getEndMinutes() {
+        return endMinutes;
+    }
+    
+    public int getDurationMinutes() {
+        return endMinutes - startMinutes;
+    }
+    
+    public String getStartTime() {
+        return TimeValidator.convertMinutesToTime(startMinutes);
+    }
+    
+    public String getEndTime() {
+        return TimeValidator.convertMinutesToTime(endMinutes);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%s - %s (%d min)", getStartTime(), getEndTime(), getDurationMinutes());
+    }
+}
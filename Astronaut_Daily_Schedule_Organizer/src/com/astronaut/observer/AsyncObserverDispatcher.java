@@ -0,0 +1,224 @@
+package com.astronaut.observer;
+
+import com.astronaut.model.Task;
+import com.astronaut.util.BackpressurePolicy;
+import com.astronaut.util.Logger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Gives every observer its own bounded queue and thread, so a slow observer only ever
+// backs up its own queue. Events arriving within the coalescing window are delivered
+// together through onTaskConflicts.
+public class AsyncObserverDispatcher {
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final int SAMPLE_RATE = 10;
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+    
+    private final int capacity;
+    private final long coalesceNanos;
+    private final BackpressurePolicy policy;
+    private final Map<TaskObserver, Channel> channels;
+    private final Logger logger;
+    private volatile boolean running;
+    
+    public AsyncObserverDispatcher(int capacity, long coalesceMillis, BackpressurePolicy policy) {
+        if (capacity <= 0 || coalesceMillis < 0) {
+            throw new IllegalArgumentException("Capacity must be positive and the coalescing window non-negative");
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Backpressure policy cannot be null");
+        }
+        
+        this.capacity = capacity;
+        this.coalesceNanos = TimeUnit.MILLISECONDS.toNanos(coalesceMillis);
+        this.policy = policy;
+        this.channels = new ConcurrentHashMap<>();
+        this.logger = Logger.getInstance();
+        this.running = true;
+    }
+    
+    // Channels are created here rather than on first dispatch, so a dispatch racing with remove()
+    // or close() can never start a thread for an observer that is already gone
+    public synchronized void add(TaskObserver observer) {
+        if (running) {
+            channels.computeIfAbsent(observer, Channel::new);
+        }
+    }
+    
+    // Every observer with room gets the event before anyone waits; under BLOCK the caller then
+    // waits only on the observers whose own queue is full
+    public void dispatch(ObserverRegistry.Snapshot<TaskObserver> observers, String message, Task conflictingTask) {
+        if (!running) {
+            return;
+        }
+        
+        ConflictEvent event = new ConflictEvent(message, conflictingTask);
+        List<Channel> full = null;
+        for (int i = 0; i < observers.size(); i++) {
+            Channel channel = channels.get(observers.get(i));
+            if (channel == null || !channel.open) {
+                continue;
+            }
+            if (!channel.offer(event)) {
+                if (full == null) {
+                    full = new ArrayList<>();
+                }
+                full.add(channel);
+            }
+        }
+        
+        if (full != null) {
+            for (Channel channel : full) {
+                channel.enqueueBlocking(event);
+            }
+        }
+    }
+    
+    public synchronized void remove(TaskObserver observer) {
+        Channel channel = channels.remove(observer);
+        if (channel != null) {
+            channel.close();
+        }
+    }
+    
+    public synchronized void close() {
+        running = false;
+        for (Channel channel : channels.values()) {
+            channel.close();
+        }
+        channels.clear();
+    }
+    
+    public long getDroppedCount() {
+        long dropped = 0;
+        for (Channel channel : channels.values()) {
+            dropped += channel.droppedCount.get();
+        }
+        return dropped;
+    }
+    
+    private class Channel {
+        private final TaskObserver observer;
+        private final BlockingQueue<ConflictEvent> queue;
+        private final Thread thread;
+        private final AtomicLong droppedCount;
+        private final AtomicLong overflowCount;
+        private volatile boolean open;
+        
+        private Channel(TaskObserver observer) {
+            this.observer = observer;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.droppedCount = new AtomicLong();
+            this.overflowCount = new AtomicLong();
+            this.open = true;
+            this.thread = new Thread(this::deliverLoop, "observer-" + observerName());
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+        
+        // Returns false only when the event still has to be enqueued with blocking
+        private boolean offer(ConflictEvent event) {
+            if (queue.offer(event)) {
+                return true;
+            }
+            
+            switch (policy) {
+                case BLOCK:
+                    return false;
+                case SAMPLE:
+                    // Under pressure keep one event in every SAMPLE_RATE, drop the rest
+                    if (overflowCount.incrementAndGet() % SAMPLE_RATE == 0) {
+                        return false;
+                    }
+                    droppedCount.incrementAndGet();
+                    return true;
+                case DROP:
+                default:
+                    droppedCount.incrementAndGet();
+                    return true;
+            }
+        }
+        
+        private void enqueueBlocking(ConflictEvent event) {
+            try {
+                while (open) {
+                    if (queue.offer(event, 50, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            droppedCount.incrementAndGet();
+        }
+        
+        private void deliverLoop() {
+            List<ConflictEvent> batch = new ArrayList<>();
+            while (open || !queue.isEmpty()) {
+                try {
+                    ConflictEvent first = queue.poll(50, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    
+                    long deadline = System.nanoTime() + coalesceNanos;
+                    while (batch.size() < MAX_BATCH_SIZE) {
+                        queue.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0 || batch.size() >= MAX_BATCH_SIZE) {
+                            break;
+                        }
+                        ConflictEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                    deliver(batch);
+                } catch (InterruptedException e) {
+                    open = false;
+                }
+            }
+            
+            queue.drainTo(batch);
+            deliver(batch);
+            long dropped = droppedCount.get();
+            if (dropped > 0) {
+                logger.warn("Observer %s dropped %d conflict events under backpressure", observerName(), dropped);
+            }
+        }
+        
+        private void deliver(List<ConflictEvent> batch) {
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                observer.onTaskConflicts(new ArrayList<>(batch));
+            } catch (Exception e) {
+                logger.error("Error notifying observer: %s", e.getMessage());
+            }
+            batch.clear();
+        }
+        
+        private String observerName() {
+            String name = observer.getClass().getSimpleName();
+            return name.isEmpty() ? observer.getClass().getName() : name;
+        }
+        
+        private void close() {
+            open = false;
+            try {
+                thread.join(CLOSE_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
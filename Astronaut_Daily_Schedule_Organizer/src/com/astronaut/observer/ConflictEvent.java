@@ -0,0 +1,27 @@
+package com.astronaut.observer;
+
+import com.astronaut.model.Task;
+
+public class ConflictEvent {
+    private final String message;
+    private final Task conflictingTask;
+    private final long timestampMillis;
+    
+    public ConflictEvent(String message, Task conflictingTask) {
+        this.message = message;
+        this.conflictingTask = conflictingTask;
+        this.timestampMillis = System.currentTimeMillis();
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    public Task getConflictingTask() {
+        return conflictingTask;
+    }
+    
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+}
@@ -2,6 +2,7 @@ package com.astronaut.observer;
 
 import com.astronaut.model.Task;
 import com.astronaut.util.Logger;
+import java.util.List;
 
 public class ConflictNotifier implements TaskObserver {
     private final Logger logger;
@@ -24,6 +25,31 @@ public class ConflictNotifier implements TaskObserver {
         System.out.println("   " + conflictingTask.toString());
         System.out.println("══════════════════════════════════════════════\n");
         
-        logger.warn("Conflict detected: " + message);
+        logger.warn("Conflict detected: %s", message);
+    }
+    
+    // Prints one box for a burst of conflicts instead of one box per conflict
+    @Override
+    public void onTaskConflicts(List<ConflictEvent> events) {
+        if (events.size() == 1) {
+            onTaskConflict(events.get(0).getMessage(), events.get(0).getConflictingTask());
+            return;
+        }
+        
+        StringBuilder report = new StringBuilder();
+        report.append("\n╔══════════════════════════════════════════════╗\n");
+        report.append("║        ⚠ ").append(events.size()).append(" CONFLICTS DETECTED ⚠\n");
+        report.append("╚══════════════════════════════════════════════╝\n");
+        for (ConflictEvent event : events) {
+            if (event.getMessage() == null || event.getConflictingTask() == null) {
+                continue;
+            }
+            report.append("❌ ").append(event.getMessage()).append('\n');
+            report.append("   ").append(event.getConflictingTask()).append('\n');
+        }
+        report.append("══════════════════════════════════════════════\n");
+        System.out.println(report);
+        
+        logger.warn("%d conflicts detected, first: %s", events.size(), events.get(0).getMessage());
     }
 }
\ No newline at end of file
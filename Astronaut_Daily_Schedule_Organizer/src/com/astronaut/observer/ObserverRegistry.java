@@ -0,0 +1,84 @@
+package com.astronaut.observer;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+// Observers live in an append-only array published through a volatile snapshot. Slots
+// below a snapshot's size are never written again, so notification reads them without
+// locking or allocating. Adding usually fills the next free slot (O(1) amortized, the
+// array doubles when full); removing copies the remaining observers into a new array.
+public class ObserverRegistry<T> {
+    private static final int INITIAL_CAPACITY = 4;
+    
+    private final Map<T, Boolean> registered;
+    private volatile Snapshot<T> snapshot;
+    
+    public ObserverRegistry() {
+        this.registered = new IdentityHashMap<>();
+        this.snapshot = new Snapshot<>(new Object[INITIAL_CAPACITY], 0);
+    }
+    
+    public synchronized boolean add(T observer) {
+        if (observer == null || registered.containsKey(observer)) {
+            return false;
+        }
+        
+        Snapshot<T> current = snapshot;
+        Object[] elements = current.elements;
+        if (current.size == elements.length) {
+            elements = Arrays.copyOf(elements, elements.length * 2);
+        }
+        elements[current.size] = observer;
+        registered.put(observer, Boolean.TRUE);
+        snapshot = new Snapshot<>(elements, current.size + 1);
+        return true;
+    }
+    
+    public synchronized boolean remove(T observer) {
+        if (observer == null || registered.remove(observer) == null) {
+            return false;
+        }
+        
+        Snapshot<T> current = snapshot;
+        Object[] remaining = new Object[Math.max(INITIAL_CAPACITY, current.elements.length)];
+        int size = 0;
+        for (int i = 0; i < current.size; i++) {
+            if (current.elements[i] != observer) {
+                remaining[size++] = current.elements[i];
+            }
+        }
+        snapshot = new Snapshot<>(remaining, size);
+        return true;
+    }
+    
+    public Snapshot<T> snapshot() {
+        return snapshot;
+    }
+    
+    public int size() {
+        return snapshot.size;
+    }
+    
+    public static final class Snapshot<T> {
+        private final Object[] elements;
+        private final int size;
+        
+        private Snapshot(Object[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+        
+        public int size() {
+            return size;
+        }
+        
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            if (index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of " + size);
+            }
+            return (T) elements[index];
+        }
+    }
+}
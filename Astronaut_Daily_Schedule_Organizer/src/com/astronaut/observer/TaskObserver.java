@@ -1,7 +1,15 @@
 package com.astronaut.observer;
 
 import com.astronaut.model.Task;
+import java.util.List;
 
 public interface TaskObserver {
     void onTaskConflict(String message, Task conflictingTask);
-}
\ No newline at end of file
+    
+    // Called with the conflicts coalesced by asynchronous dispatch; override to handle them in one go
+    default void onTaskConflicts(List<ConflictEvent> events) {
+        for (ConflictEvent event : events) {
+            onTaskConflict(event.getMessage(), event.getConflictingTask());
+        }
+    }
+}
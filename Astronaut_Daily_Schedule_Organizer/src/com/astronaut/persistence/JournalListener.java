@@ -0,0 +1,11 @@
+package com.astronaut.persistence;
+
+import com.astronaut.model.Task;
+
+public interface JournalListener {
+    void onAdd(Task task);
+    void onEdit(int oldStartMinutes, String newStartTime, String newEndTime, String newPriority);
+    void onRemove(int startMinutes);
+    void onComplete(int startMinutes);
+    void onClear();
+}
@@ -0,0 +1,352 @@
+package com.astronaut.persistence;
+
+import com.astronaut.model.Task;
+import com.astronaut.util.Logger;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+public class ScheduleJournal {
+    public enum SyncMode {
+        GROUP_COMMIT,
+        PERIODIC
+    }
+    
+    private static final int MAGIC = 0x41534A4C;
+    private static final int HEADER_SIZE = 12;
+    private static final long PERIODIC_SYNC_MILLIS = 100;
+    
+    private static final byte OP_ADD = 1;
+    private static final byte OP_EDIT = 2;
+    private static final byte OP_REMOVE = 3;
+    private static final byte OP_COMPLETE = 4;
+    private static final byte OP_CLEAR = 5;
+    
+    private final Path file;
+    private final SyncMode syncMode;
+    private final Logger logger;
+    private final FileChannel channel;
+    private final DataOutputStream out;
+    private final ByteArrayOutputStream recordBytes;
+    private final DataOutputStream record;
+    private final CRC32 crc;
+    private final Object commitLock;
+    private final Thread periodicSyncThread;
+    private long generation;
+    private long writtenSequence;
+    private long syncedSequence;
+    private long recordCount;
+    private boolean failedWrite;
+    private volatile boolean open;
+    
+    private ScheduleJournal(Path file, SyncMode syncMode) throws IOException {
+        this.file = file;
+        this.syncMode = syncMode;
+        this.logger = Logger.getInstance();
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+        this.recordBytes = new ByteArrayOutputStream(128);
+        this.record = new DataOutputStream(recordBytes);
+        this.crc = new CRC32();
+        this.commitLock = new Object();
+        this.open = true;
+        
+        if (channel.size() < HEADER_SIZE) {
+            writeHeader(0);
+        } else {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            channel.read(header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                channel.close();
+                throw new IOException("Not a schedule journal: " + file);
+            }
+            generation = header.getLong();
+            channel.position(channel.size());
+        }
+        
+        if (syncMode == SyncMode.PERIODIC) {
+            periodicSyncThread = new Thread(this::periodicSyncLoop, "schedule-journal-sync");
+            periodicSyncThread.setDaemon(true);
+            periodicSyncThread.start();
+        } else {
+            periodicSyncThread = null;
+        }
+    }
+    
+    public static ScheduleJournal open(Path file, SyncMode syncMode) throws IOException {
+        if (syncMode == null) {
+            throw new IllegalArgumentException("Sync mode cannot be null");
+        }
+        return new ScheduleJournal(file, syncMode);
+    }
+    
+    public synchronized long getGeneration() {
+        return generation;
+    }
+    
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+    
+    // Applies every intact record in order. A torn or corrupt tail (from a crash mid-write)
+    // ends the replay and is cut off so new records follow the last good one.
+    public synchronized long replay(JournalListener listener) throws IOException {
+        long validLength = HEADER_SIZE;
+        long replayed = 0;
+        
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            in.skipBytes(HEADER_SIZE);
+            while (true) {
+                byte[] body;
+                try {
+                    int length = in.readInt();
+                    long checksum = in.readInt() & 0xFFFFFFFFL;
+                    if (length <= 0 || length > 1 << 20) {
+                        break;
+                    }
+                    body = new byte[length];
+                    in.readFully(body);
+                    crc.reset();
+                    crc.update(body, 0, length);
+                    if (crc.getValue() != checksum) {
+                        break;
+                    }
+                } catch (EOFException e) {
+                    break;
+                }
+                
+                apply(body, listener);
+                validLength += 8 + body.length;
+                replayed++;
+            }
+        }
+        
+        if (validLength < channel.size()) {
+            logger.warn("Discarding %d bytes of incomplete journal tail", channel.size() - validLength);
+            channel.truncate(validLength);
+        }
+        channel.position(validLength);
+        recordCount = replayed;
+        return replayed;
+    }
+    
+    private void apply(byte[] body, JournalListener listener) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+        byte op = in.readByte();
+        switch (op) {
+            case OP_ADD:
+                listener.onAdd(ScheduleSnapshot.readTask(in));
+                break;
+            case OP_EDIT:
+                listener.onEdit(in.readShort(), in.readUTF(), in.readUTF(), in.readUTF());
+                break;
+            case OP_REMOVE:
+                listener.onRemove(in.readShort());
+                break;
+            case OP_COMPLETE:
+                listener.onComplete(in.readShort());
+                break;
+            case OP_CLEAR:
+                listener.onClear();
+                break;
+            default:
+                throw new IOException("Unknown journal operation: " + op);
+        }
+    }
+    
+    // Each append returns the record's sequence for commit(), or 0 if it was not written, in
+    // which case the caller must not apply the change
+    public synchronized long appendAdd(Task task) {
+        try {
+            beginRecord(OP_ADD);
+            ScheduleSnapshot.writeTask(record, task);
+            return endRecord();
+        } catch (IOException e) {
+            return failed(e);
+        }
+    }
+    
+    public synchronized long appendEdit(int oldStartMinutes, Task task) {
+        try {
+            beginRecord(OP_EDIT);
+            record.writeShort(oldStartMinutes);
+            record.writeUTF(task.getStartTime());
+            record.writeUTF(task.getEndTime());
+            record.writeUTF(task.getPriority());
+            return endRecord();
+        } catch (IOException e) {
+            return failed(e);
+        }
+    }
+    
+    public synchronized long appendRemove(int startMinutes) {
+        try {
+            beginRecord(OP_REMOVE);
+            record.writeShort(startMinutes);
+            return endRecord();
+        } catch (IOException e) {
+            return failed(e);
+        }
+    }
+    
+    public synchronized long appendComplete(int startMinutes) {
+        try {
+            beginRecord(OP_COMPLETE);
+            record.writeShort(startMinutes);
+            return endRecord();
+        } catch (IOException e) {
+            return failed(e);
+        }
+    }
+    
+    public synchronized long appendClear() {
+        try {
+            beginRecord(OP_CLEAR);
+            return endRecord();
+        } catch (IOException e) {
+            return failed(e);
+        }
+    }
+    
+    private void beginRecord(byte op) throws IOException {
+        if (!open) {
+            throw new IOException("Journal is closed");
+        }
+        if (failedWrite) {
+            throw new IOException("Journal stopped after a failed write; write a checkpoint to resume");
+        }
+        recordBytes.reset();
+        record.writeByte(op);
+    }
+    
+    private long endRecord() throws IOException {
+        record.flush();
+        crc.reset();
+        crc.update(recordBytes.toByteArray(), 0, recordBytes.size());
+        out.writeInt(recordBytes.size());
+        out.writeInt((int) crc.getValue());
+        recordBytes.writeTo(out);
+        recordCount++;
+        return ++writtenSequence;
+    }
+    
+    // A failed write may leave part of a record behind, and replay stops at the first damaged
+    // record, so nothing more is appended until reset() starts a clean journal
+    private long failed(IOException e) {
+        failedWrite = true;
+        logger.error("Failed to append to schedule journal: %s", e.getMessage());
+        return 0;
+    }
+    
+    // Group commit: a caller returns once its record is on disk. Whoever holds the commit
+    // lock forces every record written so far, so callers queued behind it usually find
+    // their sequence already covered and skip their own fsync.
+    public void commit(long sequence) {
+        if (syncMode == SyncMode.GROUP_COMMIT && sequence > 0) {
+            sync(sequence);
+        }
+    }
+    
+    private void sync(long sequence) {
+        synchronized (commitLock) {
+            long target;
+            synchronized (this) {
+                if (!open || syncedSequence >= sequence) {
+                    return;
+                }
+                target = writtenSequence;
+                try {
+                    out.flush();
+                } catch (IOException e) {
+                    logger.error("Failed to flush schedule journal: %s", e.getMessage());
+                    return;
+                }
+            }
+            
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                logger.error("Failed to sync schedule journal: %s", e.getMessage());
+                return;
+            }
+            synchronized (this) {
+                syncedSequence = Math.max(syncedSequence, target);
+            }
+        }
+    }
+    
+    private void periodicSyncLoop() {
+        while (open) {
+            try {
+                Thread.sleep(PERIODIC_SYNC_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            long target;
+            synchronized (this) {
+                target = writtenSequence;
+            }
+            sync(target);
+        }
+    }
+    
+    // Called after a snapshot covering every record so far has been written
+    public void reset(long newGeneration) throws IOException {
+        synchronized (commitLock) {
+            synchronized (this) {
+                out.flush();
+                channel.truncate(0);
+                writeHeader(newGeneration);
+                channel.force(true);
+                recordCount = 0;
+                syncedSequence = writtenSequence;
+                failedWrite = false;
+            }
+        }
+    }
+    
+    private void writeHeader(long newGeneration) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putLong(newGeneration).flip();
+        channel.write(header, 0);
+        channel.position(HEADER_SIZE);
+        generation = newGeneration;
+    }
+    
+    public void close() {
+        long target;
+        synchronized (this) {
+            target = writtenSequence;
+        }
+        sync(target);
+        
+        synchronized (commitLock) {
+            synchronized (this) {
+                open = false;
+                try {
+                    out.flush();
+                    channel.close();
+                } catch (IOException e) {
+                    logger.error("Failed to close schedule journal: %s", e.getMessage());
+                }
+            }
+        }
+        if (periodicSyncThread != null) {
+            periodicSyncThread.interrupt();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.astronaut.persistence;
+
+import com.astronaut.model.Task;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public class ScheduleSnapshot {
+    private static final int MAGIC = 0x41534E50;
+    
+    private final long generation;
+    private final List<Task> tasks;
+    
+    private ScheduleSnapshot(long generation, List<Task> tasks) {
+        this.generation = generation;
+        this.tasks = tasks;
+    }
+    
+    public long getGeneration() {
+        return generation;
+    }
+    
+    public List<Task> getTasks() {
+        return Collections.unmodifiableList(tasks);
+    }
+    
+    public static ScheduleSnapshot read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return new ScheduleSnapshot(0, new ArrayList<>());
+        }
+        
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a schedule snapshot: " + file);
+            }
+            long generation = in.readLong();
+            int count = in.readInt();
+            List<Task> tasks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                tasks.add(readTask(in));
+            }
+            return new ScheduleSnapshot(generation, tasks);
+        }
+    }
+    
+    // Written to a temporary file, forced to disk and then renamed over the old snapshot,
+    // so a crash leaves either the previous snapshot or the new one, never a partial file.
+    public static void write(Path file, Collection<Task> tasks, long generation) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileOutputStream fileOut = new FileOutputStream(temporary.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+            out.writeInt(MAGIC);
+            out.writeLong(generation);
+            out.writeInt(tasks.size());
+            for (Task task : tasks) {
+                writeTask(out, task);
+            }
+            out.flush();
+            fileOut.getChannel().force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    static void writeTask(DataOutput out, Task task) throws IOException {
+        out.writeUTF(task.getDescription());
+        out.writeUTF(task.getStartTime());
+        out.writeUTF(task.getEndTime());
+        out.writeUTF(task.getPriority());
+        out.writeBoolean(task.isCompleted());
+    }
+    
+    static Task readTask(DataInput in) throws IOException {
+        Task task = new Task(in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF());
+        task.setCompleted(in.readBoolean());
+        return task;
+    }
+}
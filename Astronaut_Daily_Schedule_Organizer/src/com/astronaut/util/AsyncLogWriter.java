@@ -0,0 +1,183 @@
+package com.astronaut.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AsyncLogWriter {
+    private static final int DEFAULT_BATCH_SIZE = 256;
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 200;
+    private static final int DEFAULT_SAMPLE_RATE = 10;
+    
+    private final BlockingQueue<String> queue;
+    private final BackpressurePolicy policy;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final int sampleRate;
+    private final LogAppender sink;
+    private final Thread writerThread;
+    private final AtomicLong droppedCount;
+    private final AtomicLong overflowCount;
+    private final AtomicInteger activeSubmitters;
+    private volatile boolean running;
+    
+    public AsyncLogWriter(LogAppender sink, int capacity, BackpressurePolicy policy) {
+        this(sink, capacity, policy, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS, DEFAULT_SAMPLE_RATE);
+    }
+    
+    public AsyncLogWriter(LogAppender sink, int capacity, BackpressurePolicy policy,
+                          int batchSize, long flushIntervalMillis, int sampleRate) {
+        if (sink == null) {
+            throw new IllegalArgumentException("Log appender cannot be null");
+        }
+        if (capacity <= 0 || batchSize <= 0 || flushIntervalMillis <= 0 || sampleRate <= 0) {
+            throw new IllegalArgumentException("Capacity, batch size, flush interval and sample rate must be positive");
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Backpressure policy cannot be null");
+        }
+        
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.policy = policy;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.sampleRate = sampleRate;
+        this.sink = sink;
+        this.droppedCount = new AtomicLong();
+        this.overflowCount = new AtomicLong();
+        this.activeSubmitters = new AtomicInteger();
+        this.running = true;
+        
+        this.writerThread = new Thread(this::drainLoop, "async-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+    
+    // Submitters announce themselves before checking running, so the final drain can wait for any
+    // that saw the writer running and only then empty the queue; none of their lines is left behind
+    public boolean submit(String line) {
+        activeSubmitters.incrementAndGet();
+        try {
+            return enqueue(line);
+        } finally {
+            activeSubmitters.decrementAndGet();
+        }
+    }
+    
+    private boolean enqueue(String line) {
+        if (!running || line == null) {
+            return false;
+        }
+        
+        if (queue.offer(line)) {
+            return true;
+        }
+        
+        switch (policy) {
+            case BLOCK:
+                return enqueueBlocking(line);
+            case SAMPLE:
+                // Under pressure keep one line in every sampleRate, drop the rest
+                if (overflowCount.incrementAndGet() % sampleRate == 0) {
+                    return enqueueBlocking(line);
+                }
+                droppedCount.incrementAndGet();
+                return true;
+            case DROP:
+            default:
+                droppedCount.incrementAndGet();
+                return true;
+        }
+    }
+    
+    private boolean enqueueBlocking(String line) {
+        try {
+            while (running) {
+                if (queue.offer(line, 50, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+    
+    private void drainLoop() {
+        List<String> batch = new ArrayList<>(batchSize);
+        int unflushed = 0;
+        long lastFlush = System.nanoTime();
+        
+        while (running || !queue.isEmpty()) {
+            try {
+                String first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    for (String line : batch) {
+                        sink.append(line);
+                    }
+                    unflushed += batch.size();
+                    batch.clear();
+                }
+                
+                long now = System.nanoTime();
+                if (unflushed > 0 && (unflushed >= batchSize || now - lastFlush >= flushIntervalNanos)) {
+                    sink.flush();
+                    unflushed = 0;
+                    lastFlush = now;
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (IOException e) {
+                System.err.println("Failed to write to log file: " + e.getMessage());
+                batch.clear();
+            }
+        }
+        
+        try {
+            // Submitters that passed the running check just before close finish quickly, since a
+            // blocked offer gives up once running is false; keep draining so they are never stuck
+            while (activeSubmitters.get() > 0 || !queue.isEmpty()) {
+                queue.drainTo(batch);
+                for (String line : batch) {
+                    sink.append(line);
+                }
+                batch.clear();
+                if (activeSubmitters.get() > 0) {
+                    Thread.yield();
+                }
+            }
+            
+            long dropped = droppedCount.get();
+            if (dropped > 0) {
+                sink.append("Async logger dropped " + dropped + " messages under backpressure");
+            }
+            sink.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close log file: " + e.getMessage());
+        }
+    }
+    
+    public void close() {
+        running = false;
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+    
+    public int getPendingCount() {
+        return queue.size();
+    }
+}
@@ -0,0 +1,7 @@
+package com.astronaut.util;
+
+public enum BackpressurePolicy {
+    BLOCK,
+    DROP,
+    SAMPLE
+}
@@ -0,0 +1,35 @@
+package com.astronaut.util;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public class FileLogAppender implements LogAppender {
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    
+    private final Writer writer;
+    
+    public FileLogAppender(String logFile) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(logFile, true), StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+    }
+    
+    @Override
+    public synchronized void append(String line) throws IOException {
+        writer.write(line);
+        writer.write(System.lineSeparator());
+    }
+    
+    @Override
+    public synchronized void flush() throws IOException {
+        writer.flush();
+    }
+    
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,9 @@
+package com.astronaut.util;
+
+import java.io.IOException;
+
+public interface LogAppender {
+    void append(String line) throws IOException;
+    void flush() throws IOException;
+    void close() throws IOException;
+}
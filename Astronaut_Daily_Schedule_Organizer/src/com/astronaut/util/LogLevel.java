@@ -0,0 +1,19 @@
+package com.astronaut.util;
+
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR;
+    
+    public static LogLevel fromName(String name) {
+        if (name != null) {
+            for (LogLevel level : values()) {
+                if (level.name().equalsIgnoreCase(name.trim())) {
+                    return level;
+                }
+            }
+        }
+        return INFO;
+    }
+}
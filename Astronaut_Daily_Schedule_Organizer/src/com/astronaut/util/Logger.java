@@ -3,16 +3,30 @@ package com.astronaut.util;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
 
 public class Logger {
     private static Logger instance;
     private static final String LOG_FILE = "logs/schedule.log";
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     private static final Object lock = new Object();
+    private volatile AsyncLogWriter asyncWriter;
+    private LogAppender appender;
+    private int asyncCapacity;
+    private BackpressurePolicy asyncPolicy;
+    private boolean shutdownHookRegistered;
+    private volatile boolean shutDown;
+    private volatile LogLevel minimumLevel;
+    private volatile CachedTimestamp cachedTimestamp;
     
     private Logger() {
+        // Every level is written by default, as before levels existed; callers raise it to filter
+        this.minimumLevel = LogLevel.DEBUG;
+        this.cachedTimestamp = new CachedTimestamp(Long.MIN_VALUE, "");
         initializeLogFile();
     }
     
@@ -42,19 +56,165 @@ public class Logger {
         }
     }
     
+    public void setMinimumLevel(LogLevel level) {
+        if (level == null) {
+            throw new IllegalArgumentException("Log level cannot be null");
+        }
+        this.minimumLevel = level;
+    }
+    
+    public LogLevel getMinimumLevel() {
+        return minimumLevel;
+    }
+    
+    public boolean isEnabled(LogLevel level) {
+        return level.ordinal() >= minimumLevel.ordinal();
+    }
+    
     public void log(String level, String message) {
-        if (message == null || message.isEmpty()) {
+        log(LogLevel.fromName(level), message);
+    }
+    
+    public void log(LogLevel level, String message) {
+        if (!isEnabled(level) || message == null || message.isEmpty()) {
             return;
         }
         
-        String timestamp = LocalDateTime.now().format(formatter);
-        String logMessage = String.format("[%s] [%s] %s", timestamp, level, message);
+        String logMessage = new StringBuilder(message.length() + 32)
+                .append('[').append(currentTimestamp()).append("] [")
+                .append(level.name()).append("] ")
+                .append(message)
+                .toString();
         
         writeToFile(logMessage);
     }
     
+    private void log(LogLevel level, String format, Object... args) {
+        if (isEnabled(level)) {
+            log(level, String.format(format, args));
+        }
+    }
+    
+    private void log(LogLevel level, Supplier<String> messageSupplier) {
+        if (isEnabled(level)) {
+            log(level, messageSupplier.get());
+        }
+    }
+    
+    // The formatter runs at most once per second; other lines reuse the cached text
+    private String currentTimestamp() {
+        long epochSecond = System.currentTimeMillis() / 1000;
+        CachedTimestamp cached = cachedTimestamp;
+        if (cached.epochSecond != epochSecond) {
+            String text = LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault())
+                    .format(formatter);
+            cached = new CachedTimestamp(epochSecond, text);
+            cachedTimestamp = cached;
+        }
+        return cached.text;
+    }
+    
+    public void enableAsyncMode(int capacity, BackpressurePolicy policy) {
+        synchronized (lock) {
+            if (asyncWriter != null) {
+                return;
+            }
+            shutDown = false;
+            asyncCapacity = capacity;
+            asyncPolicy = policy;
+            startAsyncWriter();
+            if (!shutdownHookRegistered) {
+                Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
+                shutdownHookRegistered = true;
+            }
+        }
+    }
+    
+    private void startAsyncWriter() {
+        try {
+            LogAppender sink = appender != null ? appender : new FileLogAppender(LOG_FILE);
+            asyncWriter = new AsyncLogWriter(sink, asyncCapacity, asyncPolicy);
+        } catch (IOException e) {
+            System.err.println("Failed to start async logging, using synchronous writes: " + e.getMessage());
+        }
+    }
+    
+    public boolean isAsyncMode() {
+        return asyncWriter != null;
+    }
+    
+    public void useRollingMappedLog(int segmentSize, int maxSegments) {
+        try {
+            setAppender(new MappedLogAppender("logs", "schedule", segmentSize, maxSegments));
+        } catch (IOException e) {
+            System.err.println("Failed to open rolling log segments: " + e.getMessage());
+        }
+    }
+    
+    public void setAppender(LogAppender newAppender) {
+        synchronized (lock) {
+            boolean wasAsync = asyncWriter != null;
+            closeWriters();
+            shutDown = false;
+            appender = newAppender;
+            if (wasAsync) {
+                startAsyncWriter();
+            }
+        }
+    }
+    
+    // Stops accepting lines before the final drain, so nothing logged during shutdown is lost
+    // in the async queue or written to a different file than the configured sink
+    public void shutdown() {
+        synchronized (lock) {
+            shutDown = true;
+            closeWriters();
+        }
+    }
+    
+    // The async writer owns its sink and closes it; a standalone appender is closed here
+    private void closeWriters() {
+        AsyncLogWriter writer = asyncWriter;
+        asyncWriter = null;
+        if (writer != null) {
+            writer.close();
+        } else if (appender != null) {
+            try {
+                appender.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close log appender: " + e.getMessage());
+            }
+        }
+        appender = null;
+    }
+    
     private void writeToFile(String message) {
+        if (shutDown) {
+            return;
+        }
+        AsyncLogWriter async = asyncWriter;
+        if (async != null && async.submit(message)) {
+            return;
+        }
+        
+        // A submit refused while the writer is being replaced goes to the new sink once it is in place
         synchronized (lock) {
+            if (shutDown) {
+                return;
+            }
+            AsyncLogWriter current = asyncWriter;
+            if (current != null && current != async && current.submit(message)) {
+                return;
+            }
+            if (appender != null) {
+                try {
+                    appender.append(message);
+                } catch (IOException e) {
+                    System.err.println("Failed to write to log file: " + e.getMessage());
+                }
+                return;
+            }
+            
             try (FileWriter writer = new FileWriter(LOG_FILE, true)) {
                 writer.write(message + System.lineSeparator());
             } catch (IOException e) {
@@ -64,18 +224,60 @@ public class Logger {
     }
     
     public void info(String message) {
-        log("INFO", message);
+        log(LogLevel.INFO, message);
+    }
+    
+    public void info(String format, Object... args) {
+        log(LogLevel.INFO, format, args);
+    }
+    
+    public void info(Supplier<String> messageSupplier) {
+        log(LogLevel.INFO, messageSupplier);
     }
     
     public void warn(String message) {
-        log("WARN", message);
+        log(LogLevel.WARN, message);
+    }
+    
+    public void warn(String format, Object... args) {
+        log(LogLevel.WARN, format, args);
+    }
+    
+    public void warn(Supplier<String> messageSupplier) {
+        log(LogLevel.WARN, messageSupplier);
     }
     
     public void error(String message) {
-        log("ERROR", message);
+        log(LogLevel.ERROR, message);
+    }
+    
+    public void error(String format, Object... args) {
+        log(LogLevel.ERROR, format, args);
+    }
+    
+    public void error(Supplier<String> messageSupplier) {
+        log(LogLevel.ERROR, messageSupplier);
     }
     
     public void debug(String message) {
-        log("DEBUG", message);
+        log(LogLevel.DEBUG, message);
+    }
+    
+    public void debug(String format, Object... args) {
+        log(LogLevel.DEBUG, format, args);
+    }
+    
+    public void debug(Supplier<String> messageSupplier) {
+        log(LogLevel.DEBUG, messageSupplier);
+    }
+    
+    private static final class CachedTimestamp {
+        private final long epochSecond;
+        private final String text;
+        
+        private CachedTimestamp(long epochSecond, String text) {
+            this.epochSecond = epochSecond;
+            this.text = text;
+        }
     }
 }
\ No newline at end of file
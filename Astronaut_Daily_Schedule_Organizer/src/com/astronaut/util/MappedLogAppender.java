@@ -0,0 +1,158 @@
+package com.astronaut.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+public class MappedLogAppender implements LogAppender {
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    
+    private final Path directory;
+    private final String baseName;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final Deque<Path> segments;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int nextIndex;
+    
+    public MappedLogAppender(String directory, String baseName, int segmentSize, int maxSegments) throws IOException {
+        if (baseName == null || baseName.isEmpty()) {
+            throw new IllegalArgumentException("Base name cannot be null or empty");
+        }
+        if (segmentSize <= LINE_SEPARATOR.length || maxSegments <= 0) {
+            throw new IllegalArgumentException("Segment size and segment count must be positive");
+        }
+        
+        this.directory = Paths.get(directory);
+        this.baseName = baseName;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.segments = new ArrayDeque<>();
+        
+        Files.createDirectories(this.directory);
+        loadExistingSegments();
+        openNextSegment(segmentSize);
+    }
+    
+    private void loadExistingSegments() throws IOException {
+        List<Integer> indexes = new ArrayList<>();
+        String prefix = baseName + "-";
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, prefix + "*.log")) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                try {
+                    indexes.add(Integer.parseInt(name.substring(prefix.length(), name.length() - 4)));
+                } catch (NumberFormatException e) {
+                    // Not one of our segments
+                }
+            }
+        }
+        
+        Collections.sort(indexes);
+        for (int index : indexes) {
+            Path segment = segmentPath(index);
+            trimPadding(segment);
+            segments.addLast(segment);
+        }
+        nextIndex = indexes.isEmpty() ? 1 : indexes.get(indexes.size() - 1) + 1;
+    }
+    
+    @Override
+    public synchronized void append(String line) throws IOException {
+        if (buffer == null) {
+            throw new IOException("Log appender is closed");
+        }
+        
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        int length = bytes.length + LINE_SEPARATOR.length;
+        if (buffer.remaining() < length) {
+            sealCurrentSegment();
+            // A line longer than a segment gets a segment of its own rather than being cut
+            openNextSegment(Math.max(segmentSize, length));
+        }
+        buffer.put(bytes);
+        buffer.put(LINE_SEPARATOR);
+    }
+    
+    @Override
+    public synchronized void flush() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+    
+    @Override
+    public synchronized void close() throws IOException {
+        if (buffer != null) {
+            sealCurrentSegment();
+            buffer = null;
+        }
+    }
+    
+    // Truncating a file that is still mapped is unsafe on some platforms and the mapping cannot be
+    // released on demand, so a sealed segment keeps its zero-filled tail until the next start
+    private void sealCurrentSegment() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+    
+    // Cuts a segment from an earlier run back to its logical length, the end of its last line.
+    // Lines are text, so the zero bytes after the last line are all padding.
+    private static void trimPadding(Path segment) throws IOException {
+        try (FileChannel file = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer block = ByteBuffer.allocate(8192);
+            long end = file.size();
+            while (end > 0) {
+                long blockStart = Math.max(0, end - block.capacity());
+                block.clear();
+                block.limit((int) (end - blockStart));
+                while (block.hasRemaining()) {
+                    if (file.read(block, blockStart + block.position()) < 0) {
+                        break;
+                    }
+                }
+                int last = block.position() - 1;
+                while (last >= 0 && block.get(last) == 0) {
+                    last--;
+                }
+                if (last >= 0) {
+                    end = blockStart + last + 1;
+                    break;
+                }
+                end = blockStart;
+            }
+            if (end < file.size()) {
+                file.truncate(end);
+            }
+        }
+    }
+    
+    private void openNextSegment(int size) throws IOException {
+        Path segment = segmentPath(nextIndex++);
+        channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        segments.addLast(segment);
+        
+        while (segments.size() > maxSegments) {
+            Files.deleteIfExists(segments.removeFirst());
+        }
+    }
+    
+    private Path segmentPath(int index) {
+        return directory.resolve(String.format("%s-%05d.log", baseName, index));
+    }
+}
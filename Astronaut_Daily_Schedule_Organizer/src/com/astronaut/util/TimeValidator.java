@@ -1,45 +1,70 @@
 package com.astronaut.util;
 
-import java.util.regex.Pattern;
-import java.util.regex.Matcher;
-
 public class TimeValidator {
-    private static final Pattern TIME_PATTERN = Pattern.compile("^([01]?[0-9]|2[0-3]):([0-5][0-9])$");
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final String[] TIME_LABELS = buildTimeLabels();
     
-    public static boolean isValidTimeFormat(String time) {
-        if (time == null || time.trim().isEmpty()) {
-            return false;
+    private static String[] buildTimeLabels() {
+        String[] labels = new String[MINUTES_PER_DAY];
+        for (int minutes = 0; minutes < MINUTES_PER_DAY; minutes++) {
+            labels[minutes] = String.format("%02d:%02d", minutes / 60, minutes % 60);
+        }
+        return labels;
+    }
+    
+    // Single pass over "H:MM" / "HH:MM" (surrounding whitespace ignored), hours 0-23.
+    // Returns minutes since midnight, or -1 if the text is not a valid time.
+    public static int parseMinutes(String time) {
+        if (time == null) {
+            return -1;
         }
         
-        Matcher matcher = TIME_PATTERN.matcher(time.trim());
-        if (!matcher.matches()) {
-            return false;
+        int start = 0;
+        int end = time.length();
+        while (start < end && time.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && time.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        
+        int length = end - start;
+        if (length != 4 && length != 5) {
+            return -1;
         }
         
-        try {
-            String[] parts = time.split(":");
-            int hours = Integer.parseInt(parts[0]);
-            int minutes = Integer.parseInt(parts[1]);
-            
-            return hours >= 0 && hours <= 23 && minutes >= 0 && minutes <= 59;
-        } catch (Exception e) {
-            return false;
+        int colon = end - 3;
+        if (time.charAt(colon) != ':') {
+            return -1;
         }
+        
+        int hours = 0;
+        for (int i = start; i < colon; i++) {
+            int digit = time.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            hours = hours * 10 + digit;
+        }
+        
+        int tens = time.charAt(colon + 1) - '0';
+        int units = time.charAt(colon + 2) - '0';
+        if (hours > 23 || tens < 0 || tens > 5 || units < 0 || units > 9) {
+            return -1;
+        }
+        
+        return hours * 60 + tens * 10 + units;
+    }
+    
+    public static boolean isValidTimeFormat(String time) {
+        return parseMinutes(time) >= 0;
     }
     
     public static boolean isEndTimeAfterStartTime(String startTime, String endTime) {
-        if (!isValidTimeFormat(startTime) || !isValidTimeFormat(endTime)) {
-            return false;
-        }
+        int startMinutes = parseMinutes(startTime);
+        int endMinutes = parseMinutes(endTime);
         
-        try {
-            int startMinutes = convertToMinutes(startTime);
-            int endMinutes = convertToMinutes(endTime);
-            
-            return endMinutes > startMinutes;
-        } catch (Exception e) {
-            return false;
-        }
+        return startMinutes >= 0 && endMinutes > startMinutes;
     }
     
     public static int convertToMinutes(String time) {
@@ -47,16 +72,20 @@ public class TimeValidator {
             throw new IllegalArgumentException("Time cannot be null or empty");
         }
         
-        String[] parts = time.trim().split(":");
-        int hours = Integer.parseInt(parts[0]);
-        int minutes = Integer.parseInt(parts[1]);
-        
-        return hours * 60 + minutes;
+        int minutes = parseMinutes(time);
+        if (minutes < 0) {
+            throw new IllegalArgumentException("Invalid time format: " + time);
+        }
+        return minutes;
     }
     
     public static String convertMinutesToTime(int minutes) {
+        if (minutes >= 0 && minutes < MINUTES_PER_DAY) {
+            return TIME_LABELS[minutes];
+        }
+        
         int hours = minutes / 60;
         int mins = minutes % 60;
         return String.format("%02d:%02d", hours, mins);
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,16 @@
 package com.designpatterns;
 
 import com.designpatterns.menu.MenuManager;
+import com.designpatterns.creational.singleton.BackpressurePolicy;
 import com.designpatterns.creational.singleton.Logger;
 import java.util.Scanner;
 
 public class Main {
+    private static final int LOG_QUEUE_CAPACITY = 4096;
+    
     public static void main(String[] args) {
         Logger logger = Logger.getInstance();
+        logger.enableAsyncMode(LOG_QUEUE_CAPACITY, BackpressurePolicy.BLOCK);
         logger.log("Application started");
         
         Scanner scanner = new Scanner(System.in);
@@ -20,6 +24,7 @@ public class Main {
         } finally {
             scanner.close();
             logger.log("Application stopped");
+            logger.shutdown();
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.designpatterns.behavioral.observer;
+
+public interface AggregateObserver {
+    void onAggregate(WeatherAggregate aggregate);
+}
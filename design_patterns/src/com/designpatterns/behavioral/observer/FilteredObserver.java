@@ -0,0 +1,83 @@
+package com.designpatterns.behavioral.observer;
+
+import java.util.Arrays;
+
+// Applies an observer's SubscriptionOptions inside the station, so suppressed readings
+// never reach the observer. A reading is delivered only if every configured rule allows it.
+public class FilteredObserver implements WeatherObserver {
+    private final WeatherObserver observer;
+    private final SubscriptionOptions options;
+    private final long minIntervalNanos;
+    private float lastDelivered;
+    private long lastDeliveryNanos;
+    private boolean delivered;
+    private float[] accepted;
+    
+    public FilteredObserver(WeatherObserver observer, SubscriptionOptions options) {
+        this.observer = observer;
+        this.options = options;
+        this.minIntervalNanos = options.getMaxUpdatesPerSecond() > 0
+                ? (long) (1_000_000_000L / options.getMaxUpdatesPerSecond()) : 0;
+        this.accepted = new float[16];
+    }
+    
+    public WeatherObserver getObserver() {
+        return observer;
+    }
+    
+    public SubscriptionOptions getOptions() {
+        return options;
+    }
+    
+    @Override
+    public void update(float temperature) {
+        boolean deliver;
+        synchronized (this) {
+            deliver = accept(temperature, System.nanoTime());
+        }
+        if (deliver) {
+            observer.update(temperature);
+        }
+    }
+    
+    @Override
+    public synchronized void updateBatch(float[] readings, int offset, int length) {
+        long now = System.nanoTime();
+        int count = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (accept(readings[i], now)) {
+                if (count == accepted.length) {
+                    accepted = Arrays.copyOf(accepted, count * 2);
+                }
+                accepted[count++] = readings[i];
+            }
+        }
+        if (count > 0) {
+            observer.updateBatch(accepted, 0, count);
+        }
+    }
+    
+    private boolean accept(float temperature, long now) {
+        if (delivered) {
+            if (Math.abs(temperature - lastDelivered) < options.getMinDelta()) {
+                return false;
+            }
+            if (options.hasCrossingThreshold()
+                    && isAbove(temperature) == isAbove(lastDelivered)) {
+                return false;
+            }
+            if (now - lastDeliveryNanos < minIntervalNanos) {
+                return false;
+            }
+        }
+        
+        delivered = true;
+        lastDelivered = temperature;
+        lastDeliveryNanos = now;
+        return true;
+    }
+    
+    private boolean isAbove(float temperature) {
+        return temperature > options.getCrossingThreshold();
+    }
+}
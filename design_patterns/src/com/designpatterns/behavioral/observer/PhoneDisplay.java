@@ -14,4 +14,18 @@ public class PhoneDisplay implements WeatherObserver {
             System.out.println("   Alert: It's very hot outside!");
         }
     }
+    
+    // One line per batch instead of one per sample
+    @Override
+    public void updateBatch(float[] readings, int offset, int length) {
+        float max = readings[offset];
+        for (int i = offset + 1; i < offset + length; i++) {
+            max = Math.max(max, readings[i]);
+        }
+        System.out.println("📱 " + deviceName + ": Temperature updated to " + readings[offset + length - 1]
+                + "°C (" + length + " readings, peak " + max + "°C)");
+        if (max > 35) {
+            System.out.println("   Alert: It's very hot outside!");
+        }
+    }
 }
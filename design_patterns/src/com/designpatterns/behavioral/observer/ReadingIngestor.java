@@ -0,0 +1,167 @@
+package com.designpatterns.behavioral.observer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Buffers raw sensor readings in a primitive ring and hands them to the station in
+// micro-batches: a batch goes out as soon as it is full, or once its oldest reading
+// has waited maxLatencyMillis. Producers block while the ring is full.
+public class ReadingIngestor {
+    private final WeatherStation station;
+    private final float[] ring;
+    private final float[] batch;
+    private final long maxLatencyNanos;
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+    private final Thread deliveryThread;
+    private long head;
+    private long tail;
+    private long oldestPendingNanos;
+    private volatile boolean running;
+    
+    public ReadingIngestor(WeatherStation station, int capacity, int maxBatchSize, long maxLatencyMillis) {
+        if (station == null) {
+            throw new IllegalArgumentException("Weather station cannot be null");
+        }
+        if (capacity <= 0 || maxBatchSize <= 0 || maxBatchSize > capacity || maxLatencyMillis <= 0) {
+            throw new IllegalArgumentException(
+                    "Capacity, batch size and latency must be positive, batch size at most capacity");
+        }
+        
+        this.station = station;
+        this.ring = new float[capacity];
+        this.batch = new float[maxBatchSize];
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMillis);
+        this.lock = new ReentrantLock();
+        this.notEmpty = lock.newCondition();
+        this.notFull = lock.newCondition();
+        this.running = true;
+        
+        this.deliveryThread = new Thread(this::deliveryLoop, "weather-ingestor");
+        this.deliveryThread.setDaemon(true);
+        this.deliveryThread.start();
+    }
+    
+    public void ingest(float reading) throws InterruptedException {
+        lock.lock();
+        try {
+            while (running && tail - head == ring.length) {
+                notFull.await();
+            }
+            if (!running) {
+                return;
+            }
+            append(reading);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public void ingest(float[] readings, int offset, int length) throws InterruptedException {
+        if (offset < 0 || length < 0 || offset + length > readings.length) {
+            throw new IndexOutOfBoundsException("Invalid range " + offset + "+" + length + " of " + readings.length);
+        }
+        
+        int end = offset + length;
+        lock.lock();
+        try {
+            while (offset < end) {
+                while (running && tail - head == ring.length) {
+                    notFull.await();
+                }
+                if (!running) {
+                    return;
+                }
+                // Copy as much as fits in one go, in at most two runs around the ring
+                int count = (int) Math.min(end - offset, ring.length - (tail - head));
+                int position = (int) (tail % ring.length);
+                int firstRun = Math.min(count, ring.length - position);
+                System.arraycopy(readings, offset, ring, position, firstRun);
+                System.arraycopy(readings, offset + firstRun, ring, 0, count - firstRun);
+                commit(count);
+                offset += count;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void append(float reading) {
+        ring[(int) (tail % ring.length)] = reading;
+        commit(1);
+    }
+    
+    private void commit(int count) {
+        if (tail == head) {
+            oldestPendingNanos = System.nanoTime();
+            notEmpty.signal();
+        }
+        tail += count;
+        if (tail - head >= batch.length) {
+            notEmpty.signal();
+        }
+    }
+    
+    private void deliveryLoop() {
+        while (true) {
+            int count;
+            lock.lock();
+            try {
+                while (running && tail == head) {
+                    notEmpty.await();
+                }
+                // Wait for a full batch, but no longer than the oldest reading's latency budget
+                long remaining = oldestPendingNanos + maxLatencyNanos - System.nanoTime();
+                while (running && tail - head < batch.length && remaining > 0) {
+                    remaining = notEmpty.awaitNanos(remaining);
+                }
+                if (tail == head) {
+                    return;
+                }
+                
+                count = (int) Math.min(tail - head, batch.length);
+                int position = (int) (head % ring.length);
+                int firstRun = Math.min(count, ring.length - position);
+                System.arraycopy(ring, position, batch, 0, firstRun);
+                System.arraycopy(ring, 0, batch, firstRun, count - firstRun);
+                // Leftover readings keep the old timestamp, so they go out on the next pass
+                head += count;
+                notFull.signalAll();
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+            
+            station.publishReadings(batch, 0, count);
+        }
+    }
+    
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return (int) (tail - head);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Stops accepting readings and returns once everything already buffered is delivered
+    public void close() {
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            deliveryThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
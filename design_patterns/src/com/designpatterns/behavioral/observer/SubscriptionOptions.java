@@ -0,0 +1,64 @@
+package com.designpatterns.behavioral.observer;
+
+// Immutable delivery rules for one observer; each with* method returns a copy with one rule changed
+public class SubscriptionOptions {
+    private static final SubscriptionOptions EVERY_UPDATE = new SubscriptionOptions(0, 0, Float.NaN);
+    
+    private final float minDelta;
+    private final double maxUpdatesPerSecond;
+    private final float crossingThreshold;
+    
+    private SubscriptionOptions(float minDelta, double maxUpdatesPerSecond, float crossingThreshold) {
+        this.minDelta = minDelta;
+        this.maxUpdatesPerSecond = maxUpdatesPerSecond;
+        this.crossingThreshold = crossingThreshold;
+    }
+    
+    public static SubscriptionOptions everyUpdate() {
+        return EVERY_UPDATE;
+    }
+    
+    // Skip readings that differ from the last delivered one by less than minDelta
+    public SubscriptionOptions withMinDelta(float minDelta) {
+        if (minDelta < 0 || Float.isNaN(minDelta)) {
+            throw new IllegalArgumentException("Minimum delta must be zero or positive");
+        }
+        return new SubscriptionOptions(minDelta, maxUpdatesPerSecond, crossingThreshold);
+    }
+    
+    // Deliver at most this many readings per second; zero means unlimited
+    public SubscriptionOptions withMaxUpdatesPerSecond(double maxUpdatesPerSecond) {
+        if (maxUpdatesPerSecond < 0 || Double.isNaN(maxUpdatesPerSecond)) {
+            throw new IllegalArgumentException("Maximum update rate must be zero or positive");
+        }
+        return new SubscriptionOptions(minDelta, maxUpdatesPerSecond, crossingThreshold);
+    }
+    
+    // Deliver the first reading, then only readings on the other side of the threshold than the last delivered one
+    public SubscriptionOptions withCrossingThreshold(float threshold) {
+        if (Float.isNaN(threshold)) {
+            throw new IllegalArgumentException("Threshold must be a number");
+        }
+        return new SubscriptionOptions(minDelta, maxUpdatesPerSecond, threshold);
+    }
+    
+    public float getMinDelta() {
+        return minDelta;
+    }
+    
+    public double getMaxUpdatesPerSecond() {
+        return maxUpdatesPerSecond;
+    }
+    
+    public float getCrossingThreshold() {
+        return crossingThreshold;
+    }
+    
+    public boolean hasCrossingThreshold() {
+        return !Float.isNaN(crossingThreshold);
+    }
+    
+    public boolean isUnfiltered() {
+        return minDelta == 0 && maxUpdatesPerSecond == 0 && !hasCrossingThreshold();
+    }
+}
@@ -14,4 +14,18 @@ public class TVDisplay implements WeatherObserver {
             System.out.println("   Alert: It's cold! Wear warm clothes.");
         }
     }
+    
+    // One line per batch instead of one per sample
+    @Override
+    public void updateBatch(float[] readings, int offset, int length) {
+        float min = readings[offset];
+        for (int i = offset + 1; i < offset + length; i++) {
+            min = Math.min(min, readings[i]);
+        }
+        System.out.println("📺 " + deviceName + ": Current temperature is " + readings[offset + length - 1]
+                + "°C (" + length + " readings, low " + min + "°C)");
+        if (min < 15) {
+            System.out.println("   Alert: It's cold! Wear warm clothes.");
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package com.designpatterns.behavioral.observer;
+
+public class WeatherAggregate {
+    private final int count;
+    private final float min;
+    private final float max;
+    private final double mean;
+    private final double standardDeviation;
+    private final float p50;
+    private final float p95;
+    private final float p99;
+    
+    public WeatherAggregate(int count, float min, float max, double mean, double standardDeviation,
+                            float p50, float p95, float p99) {
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.mean = mean;
+        this.standardDeviation = standardDeviation;
+        this.p50 = p50;
+        this.p95 = p95;
+        this.p99 = p99;
+    }
+    
+    public int getCount() {
+        return count;
+    }
+    
+    public float getMin() {
+        return min;
+    }
+    
+    public float getMax() {
+        return max;
+    }
+    
+    public double getMean() {
+        return mean;
+    }
+    
+    public double getStandardDeviation() {
+        return standardDeviation;
+    }
+    
+    public float getP50() {
+        return p50;
+    }
+    
+    public float getP95() {
+        return p95;
+    }
+    
+    public float getP99() {
+        return p99;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("n=%d min=%.1f max=%.1f mean=%.2f sd=%.2f p50=%.1f p95=%.1f p99=%.1f",
+                count, min, max, mean, standardDeviation, p50, p95, p99);
+    }
+}
@@ -2,4 +2,11 @@ package com.designpatterns.behavioral.observer;
 
 public interface WeatherObserver {
     void update(float temperature);
+    
+    // Receives a block of readings in arrival order; override to handle them without per-reading calls
+    default void updateBatch(float[] readings, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            update(readings[i]);
+        }
+    }
 }
\ No newline at end of file
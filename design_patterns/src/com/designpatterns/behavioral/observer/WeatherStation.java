@@ -1,25 +1,47 @@
 package com.designpatterns.behavioral.observer;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
 
 public class WeatherStation {
-    private List<WeatherObserver> observers;
-    private float temperature;
+    private final ObserverRegistry<WeatherObserver> observers;
+    private final Map<Long, WindowedAggregator> aggregators;
+    private final Map<WeatherObserver, FilteredObserver> filtered;
+    private volatile float temperature;
     
     public WeatherStation() {
-        this.observers = new ArrayList<>();
+        this.observers = new ObserverRegistry<>();
+        this.aggregators = new HashMap<>();
+        this.filtered = new IdentityHashMap<>();
     }
     
-    public void addObserver(WeatherObserver observer) {
-        if (observer != null && !observers.contains(observer)) {
-            observers.add(observer);
+    public synchronized void addObserver(WeatherObserver observer) {
+        if (!filtered.containsKey(observer) && observers.add(observer)) {
             System.out.println("✓ Observer added successfully");
         }
     }
     
-    public void removeObserver(WeatherObserver observer) {
-        if (observers.remove(observer)) {
+    // The options are enforced here, before the observer is called
+    public synchronized void addObserver(WeatherObserver observer, SubscriptionOptions options) {
+        if (options == null || options.isUnfiltered()) {
+            addObserver(observer);
+            return;
+        }
+        if (observer == null || filtered.containsKey(observer) || observers.contains(observer)) {
+            return;
+        }
+        
+        FilteredObserver subscription = new FilteredObserver(observer, options);
+        filtered.put(observer, subscription);
+        observers.add(subscription);
+        System.out.println("✓ Observer added successfully (filtered)");
+    }
+    
+    public synchronized void removeObserver(WeatherObserver observer) {
+        FilteredObserver subscription = filtered.remove(observer);
+        if (observers.remove(subscription != null ? subscription : observer)) {
             System.out.println("✓ Observer removed successfully");
         }
     }
@@ -32,10 +54,72 @@ public class WeatherStation {
         notifyObservers();
     }
     
+    // Fans a block of readings out to every observer in one call each; nothing is boxed
+    public void publishReadings(float[] readings, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > readings.length) {
+            throw new IndexOutOfBoundsException("Invalid range " + offset + "+" + length + " of " + readings.length);
+        }
+        if (length == 0) {
+            return;
+        }
+        
+        int unusual = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (readings[i] < -50 || readings[i] > 60) {
+                unusual++;
+            }
+        }
+        if (unusual > 0) {
+            System.out.println("⚠ Warning: " + unusual + " unusual temperature values in batch!");
+        }
+        this.temperature = readings[offset + length - 1];
+        
+        ObserverRegistry.Snapshot<WeatherObserver> registered = observers.snapshot();
+        for (int i = 0; i < registered.size(); i++) {
+            try {
+                registered.get(i).updateBatch(readings, offset, length);
+            } catch (Exception e) {
+                System.err.println("Error notifying observer: " + e.getMessage());
+            }
+        }
+    }
+    
+    // Subscribers with the same window and slide share one aggregator, which is fed like any other observer
+    public synchronized WindowedAggregator subscribeAggregates(AggregateObserver observer, int windowSize, int slide) {
+        long key = ((long) windowSize << 32) | slide;
+        WindowedAggregator aggregator = aggregators.get(key);
+        if (aggregator == null) {
+            aggregator = new WindowedAggregator(windowSize, slide);
+            aggregators.put(key, aggregator);
+            observers.add(aggregator);
+        }
+        if (aggregator.addObserver(observer)) {
+            System.out.println("✓ Aggregate observer added (window " + windowSize + ", slide " + slide + ")");
+        }
+        return aggregator;
+    }
+    
+    public synchronized void unsubscribeAggregates(AggregateObserver observer) {
+        Iterator<WindowedAggregator> iterator = aggregators.values().iterator();
+        while (iterator.hasNext()) {
+            WindowedAggregator aggregator = iterator.next();
+            aggregator.removeObserver(observer);
+            if (aggregator.getObserverCount() == 0) {
+                observers.remove(aggregator);
+                iterator.remove();
+            }
+        }
+    }
+    
+    public ReadingIngestor startIngestion(int capacity, int maxBatchSize, long maxLatencyMillis) {
+        return new ReadingIngestor(this, capacity, maxBatchSize, maxLatencyMillis);
+    }
+    
     private void notifyObservers() {
-        for (WeatherObserver observer : observers) {
+        ObserverRegistry.Snapshot<WeatherObserver> registered = observers.snapshot();
+        for (int i = 0; i < registered.size(); i++) {
             try {
-                observer.update(temperature);
+                registered.get(i).update(temperature);
             } catch (Exception e) {
                 System.err.println("Error notifying observer: " + e.getMessage());
             }
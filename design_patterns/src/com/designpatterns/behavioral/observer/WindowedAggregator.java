@@ -0,0 +1,196 @@
+package com.designpatterns.behavioral.observer;
+
+// Keeps min, max, mean, standard deviation and approximate percentiles over the last
+// windowSize readings and publishes them every slide readings (slide == windowSize gives
+// tumbling windows). Every reading costs O(1) amortized: running sums for the moments,
+// monotonic deques for min and max, and a fixed 0.1°C histogram as the percentile sketch.
+public class WindowedAggregator implements WeatherObserver {
+    private static final float HISTOGRAM_MIN = -60.0f;
+    private static final float HISTOGRAM_MAX = 70.0f;
+    private static final float BUCKET_WIDTH = 0.1f;
+    private static final int BUCKETS = Math.round((HISTOGRAM_MAX - HISTOGRAM_MIN) / BUCKET_WIDTH) + 1;
+    
+    private final int windowSize;
+    private final int slide;
+    private final float[] window;
+    private final long[] minDeque;
+    private final long[] maxDeque;
+    private final int[] histogram;
+    private final ObserverRegistry<AggregateObserver> observers;
+    private long minHead;
+    private long minTail;
+    private long maxHead;
+    private long maxTail;
+    private long sequence;
+    private double sum;
+    private double sumOfSquares;
+    private int sinceLastEmit;
+    
+    public WindowedAggregator(int windowSize, int slide) {
+        if (windowSize <= 0 || slide <= 0 || slide > windowSize) {
+            throw new IllegalArgumentException("Window and slide must be positive, slide at most the window");
+        }
+        
+        this.windowSize = windowSize;
+        this.slide = slide;
+        this.window = new float[windowSize];
+        this.minDeque = new long[windowSize];
+        this.maxDeque = new long[windowSize];
+        this.histogram = new int[BUCKETS];
+        this.observers = new ObserverRegistry<>();
+    }
+    
+    public boolean addObserver(AggregateObserver observer) {
+        return observers.add(observer);
+    }
+    
+    public boolean removeObserver(AggregateObserver observer) {
+        return observers.remove(observer);
+    }
+    
+    public int getObserverCount() {
+        return observers.size();
+    }
+    
+    public int getWindowSize() {
+        return windowSize;
+    }
+    
+    public int getSlide() {
+        return slide;
+    }
+    
+    @Override
+    public synchronized void update(float temperature) {
+        add(temperature);
+    }
+    
+    @Override
+    public synchronized void updateBatch(float[] readings, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            add(readings[i]);
+        }
+    }
+    
+    private void add(float reading) {
+        int slot = (int) (sequence % windowSize);
+        if (sequence >= windowSize) {
+            float expired = window[slot];
+            sum -= expired;
+            sumOfSquares -= (double) expired * expired;
+            histogram[bucketOf(expired)]--;
+        }
+        
+        window[slot] = reading;
+        sum += reading;
+        sumOfSquares += (double) reading * reading;
+        histogram[bucketOf(reading)]++;
+        pushMin(reading);
+        pushMax(reading);
+        sequence++;
+        
+        // Running sums drift under repeated add/subtract; rebuild them once per lap of the ring
+        if (slot == windowSize - 1) {
+            recomputeSums();
+        }
+        
+        if (++sinceLastEmit >= slide && sequence >= windowSize) {
+            sinceLastEmit = 0;
+            publish(snapshot());
+        }
+    }
+    
+    private void pushMin(float reading) {
+        long oldest = sequence - windowSize + 1;
+        if (minHead < minTail && minDeque[(int) (minHead % windowSize)] < oldest) {
+            minHead++;
+        }
+        while (minHead < minTail && valueAt(minDeque[(int) ((minTail - 1) % windowSize)]) >= reading) {
+            minTail--;
+        }
+        minDeque[(int) (minTail++ % windowSize)] = sequence;
+    }
+    
+    private void pushMax(float reading) {
+        long oldest = sequence - windowSize + 1;
+        if (maxHead < maxTail && maxDeque[(int) (maxHead % windowSize)] < oldest) {
+            maxHead++;
+        }
+        while (maxHead < maxTail && valueAt(maxDeque[(int) ((maxTail - 1) % windowSize)]) <= reading) {
+            maxTail--;
+        }
+        maxDeque[(int) (maxTail++ % windowSize)] = sequence;
+    }
+    
+    private float valueAt(long readingSequence) {
+        return window[(int) (readingSequence % windowSize)];
+    }
+    
+    private void recomputeSums() {
+        double exactSum = 0;
+        double exactSumOfSquares = 0;
+        for (float reading : window) {
+            exactSum += reading;
+            exactSumOfSquares += (double) reading * reading;
+        }
+        sum = exactSum;
+        sumOfSquares = exactSumOfSquares;
+    }
+    
+    public synchronized WeatherAggregate snapshot() {
+        int count = (int) Math.min(sequence, windowSize);
+        if (count == 0) {
+            return new WeatherAggregate(0, Float.NaN, Float.NaN, Double.NaN, Double.NaN,
+                                        Float.NaN, Float.NaN, Float.NaN);
+        }
+        
+        double mean = sum / count;
+        double variance = Math.max(0, sumOfSquares / count - mean * mean);
+        
+        // One pass over the histogram finds all three ranks
+        long p50Rank = (long) Math.ceil(count * 0.50);
+        long p95Rank = (long) Math.ceil(count * 0.95);
+        long p99Rank = (long) Math.ceil(count * 0.99);
+        float p50 = Float.NaN;
+        float p95 = Float.NaN;
+        float p99 = Float.NaN;
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS && Float.isNaN(p99); bucket++) {
+            seen += histogram[bucket];
+            if (Float.isNaN(p50) && seen >= p50Rank) {
+                p50 = valueOfBucket(bucket);
+            }
+            if (Float.isNaN(p95) && seen >= p95Rank) {
+                p95 = valueOfBucket(bucket);
+            }
+            if (seen >= p99Rank) {
+                p99 = valueOfBucket(bucket);
+            }
+        }
+        
+        float min = valueAt(minDeque[(int) (minHead % windowSize)]);
+        float max = valueAt(maxDeque[(int) (maxHead % windowSize)]);
+        return new WeatherAggregate(count, min, max, mean, Math.sqrt(variance), p50, p95, p99);
+    }
+    
+    private void publish(WeatherAggregate aggregate) {
+        ObserverRegistry.Snapshot<AggregateObserver> registered = observers.snapshot();
+        for (int i = 0; i < registered.size(); i++) {
+            try {
+                registered.get(i).onAggregate(aggregate);
+            } catch (Exception e) {
+                System.err.println("Error notifying aggregate observer: " + e.getMessage());
+            }
+        }
+    }
+    
+    // Readings outside the histogram range are clamped into its end buckets
+    private static int bucketOf(float reading) {
+        int bucket = Math.round((reading - HISTOGRAM_MIN) / BUCKET_WIDTH);
+        return Math.max(0, Math.min(BUCKETS - 1, bucket));
+    }
+    
+    private static float valueOfBucket(int bucket) {
+        return HISTOGRAM_MIN + bucket * BUCKET_WIDTH;
+    }
+}
@@ -13,6 +13,16 @@ public class CashPayment implements PaymentStrategy {
         System.out.println("✓ Cash payment received!");
     }
     
+    @Override
+    public boolean process(double amount) {
+        return amount > 0;
+    }
+    
+    @Override
+    public boolean processMinor(long amountMinor) {
+        return amountMinor > 0;
+    }
+    
     @Override
     public String getPaymentType() {
         return "Cash";
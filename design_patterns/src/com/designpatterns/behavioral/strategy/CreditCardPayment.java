@@ -1,7 +1,7 @@
 package com.designpatterns.behavioral.strategy;
 
 public class CreditCardPayment implements PaymentStrategy {
-    private String cardNumber;
+    private final String cardNumber;
     
     public CreditCardPayment(String cardNumber) {
         if (cardNumber == null || cardNumber.isEmpty()) {
@@ -22,6 +22,16 @@ public class CreditCardPayment implements PaymentStrategy {
         System.out.println("✓ Payment successful!");
     }
     
+    @Override
+    public boolean process(double amount) {
+        return amount > 0;
+    }
+    
+    @Override
+    public boolean processMinor(long amountMinor) {
+        return amountMinor > 0;
+    }
+    
     @Override
     public String getPaymentType() {
         return "Credit Card";
@@ -0,0 +1,187 @@
+package com.designpatterns.behavioral.strategy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Sits in front of a PaymentContext and remembers recent payments by idempotency key (the
+// request id), so a retried submission gets the original result instead of paying twice.
+// Entries expire after the TTL and the oldest are dropped once maxEntries is exceeded.
+public class IdempotencyCache {
+    // Map node, entry, future, result and queue node, excluding the key's characters
+    private static final int ENTRY_OVERHEAD_BYTES = 200;
+    
+    private final PaymentContext context;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, Entry> entries;
+    // Every entry gets the same TTL from completion, so insertion order is close to expiry order
+    private final ConcurrentLinkedQueue<Entry> insertionOrder;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final AtomicLong conflicts;
+    private final AtomicLong evictions;
+    private final AtomicLong keyChars;
+    
+    public IdempotencyCache(PaymentContext context, long ttlMillis, int maxEntries) {
+        if (context == null) {
+            throw new IllegalArgumentException("Payment context cannot be null");
+        }
+        if (ttlMillis <= 0 || maxEntries <= 0) {
+            throw new IllegalArgumentException("TTL and maximum entries must be positive");
+        }
+        this.context = context;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.maxEntries = maxEntries;
+        this.entries = new ConcurrentHashMap<>();
+        this.insertionOrder = new ConcurrentLinkedQueue<>();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.conflicts = new AtomicLong();
+        this.evictions = new AtomicLong();
+        this.keyChars = new AtomicLong();
+    }
+    
+    public PaymentResult process(PaymentRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Payment request cannot be null");
+        }
+        String key = request.getId();
+        if (key == null || key.isEmpty()) {
+            return new PaymentResult(request, PaymentResult.Status.REJECTED, "Missing idempotency key");
+        }
+        
+        while (true) {
+            Entry existing = entries.get(key);
+            // A payment still in flight never expires, or a duplicate arriving meanwhile would run it again
+            if (existing != null && existing.result.isDone() && existing.isExpired(System.nanoTime())) {
+                remove(existing);
+                continue;
+            }
+            if (existing != null) {
+                if (!existing.matches(request)) {
+                    conflicts.incrementAndGet();
+                    return new PaymentResult(request, PaymentResult.Status.REJECTED,
+                            "Idempotency key reused for a different payment");
+                }
+                hits.incrementAndGet();
+                // An in-flight duplicate waits for the first attempt rather than running again
+                try {
+                    return existing.result.join();
+                } catch (CompletionException e) {
+                    return new PaymentResult(request, PaymentResult.Status.FAILED, "Original attempt failed: "
+                            + e.getCause());
+                }
+            }
+            
+            Entry created = new Entry(key, request);
+            if (entries.putIfAbsent(key, created) != null) {
+                continue;
+            }
+            misses.incrementAndGet();
+            keyChars.addAndGet(key.length());
+            insertionOrder.offer(created);
+            evict();
+            
+            PaymentResult result;
+            try {
+                result = settle(request);
+            } catch (Throwable t) {
+                // Errors escape settle(); release any waiting duplicates before propagating
+                remove(created);
+                created.result.completeExceptionally(t);
+                throw t;
+            }
+            // A failure may be transient, so a retry should get another attempt
+            if (result.getStatus() == PaymentResult.Status.FAILED) {
+                remove(created);
+            }
+            created.complete(result, System.nanoTime() + ttlNanos);
+            return result;
+        }
+    }
+    
+    // Drops expired entries and, past maxEntries, the oldest ones. Eviction stops at a payment
+    // still in flight, so the cache can briefly exceed maxEntries while the oldest one runs.
+    public void evict() {
+        long now = System.nanoTime();
+        Entry oldest;
+        while ((oldest = insertionOrder.peek()) != null) {
+            if (isCurrent(oldest)) {
+                if (!oldest.result.isDone() || (!oldest.isExpired(now) && entries.size() <= maxEntries)) {
+                    return;
+                }
+                if (remove(oldest)) {
+                    evictions.incrementAndGet();
+                }
+            }
+            insertionOrder.remove(oldest);
+        }
+    }
+    
+    public IdempotencyMetrics getMetrics() {
+        int size = entries.size();
+        return new IdempotencyMetrics(hits.get(), misses.get(), conflicts.get(), evictions.get(), size,
+                (long) size * ENTRY_OVERHEAD_BYTES + keyChars.get() * 2);
+    }
+    
+    private PaymentResult settle(PaymentRequest request) {
+        try {
+            if (request.getStrategy() == null) {
+                return new PaymentResult(request, PaymentResult.Status.REJECTED, "No payment method selected");
+            }
+            if (context.processMinor(request.getStrategy(), request.getAmountMinor())) {
+                return new PaymentResult(request, PaymentResult.Status.SETTLED, null);
+            }
+            return new PaymentResult(request, PaymentResult.Status.REJECTED, "Declined");
+        } catch (RuntimeException e) {
+            return new PaymentResult(request, PaymentResult.Status.FAILED, e.getMessage());
+        }
+    }
+    
+    private boolean isCurrent(Entry entry) {
+        return entries.get(entry.key) == entry;
+    }
+    
+    private boolean remove(Entry entry) {
+        if (entries.remove(entry.key, entry)) {
+            keyChars.addAndGet(-entry.key.length());
+            return true;
+        }
+        return false;
+    }
+    
+    private static class Entry {
+        private final String key;
+        private final String paymentType;
+        private final long amountMinor;
+        private final CompletableFuture<PaymentResult> result;
+        private volatile long expiresAtNanos;
+        
+        private Entry(String key, PaymentRequest request) {
+            this.key = key;
+            this.paymentType = request.getStrategy() != null ? request.getStrategy().getPaymentType() : null;
+            this.amountMinor = request.getAmountMinor();
+            this.result = new CompletableFuture<>();
+        }
+        
+        // The TTL runs from when the result is known, not from when the payment started
+        private void complete(PaymentResult outcome, long expiresAtNanos) {
+            this.expiresAtNanos = expiresAtNanos;
+            result.complete(outcome);
+        }
+        
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+        
+        private boolean matches(PaymentRequest request) {
+            String type = request.getStrategy() != null ? request.getStrategy().getPaymentType() : null;
+            return amountMinor == request.getAmountMinor()
+                    && (paymentType == null ? type == null : paymentType.equals(type));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.designpatterns.behavioral.strategy;
+
+public class IdempotencyMetrics {
+    private final long hits;
+    private final long misses;
+    private final long conflicts;
+    private final long evictions;
+    private final int size;
+    private final long estimatedBytes;
+    
+    IdempotencyMetrics(long hits, long misses, long conflicts, long evictions, int size, long estimatedBytes) {
+        this.hits = hits;
+        this.misses = misses;
+        this.conflicts = conflicts;
+        this.evictions = evictions;
+        this.size = size;
+        this.estimatedBytes = estimatedBytes;
+    }
+    
+    public long getHits() {
+        return hits;
+    }
+    
+    public long getMisses() {
+        return misses;
+    }
+    
+    // Retries that reused a key for a different payment
+    public long getConflicts() {
+        return conflicts;
+    }
+    
+    public long getEvictions() {
+        return evictions;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+    
+    // Rough heap footprint of the cached keys and results, not an exact measurement
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+    
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("size=%d hits=%d misses=%d conflicts=%d evictions=%d hitRate=%.1f%% memory=~%d KB",
+                size, hits, misses, conflicts, evictions, getHitRate() * 100, estimatedBytes / 1024);
+    }
+}
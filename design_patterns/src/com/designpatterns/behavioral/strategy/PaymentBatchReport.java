@@ -0,0 +1,84 @@
+package com.designpatterns.behavioral.strategy;
+
+import com.designpatterns.util.Money;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Outcome of one pipeline run; results are in request order. Totals are kept in paise, so they
+// are exact however many payments are summed.
+public class PaymentBatchReport {
+    private final List<PaymentResult> results;
+    private final int[] statusCounts;
+    private final Map<String, Long> settledMinorByType;
+    private final Map<String, Integer> settledCountByType;
+    private final long elapsedNanos;
+    
+    PaymentBatchReport(List<PaymentResult> results, int[] statusCounts, Map<String, Long> settledMinorByType,
+                       Map<String, Integer> settledCountByType, long elapsedNanos) {
+        this.results = Collections.unmodifiableList(results);
+        this.statusCounts = statusCounts;
+        this.settledMinorByType = Collections.unmodifiableMap(settledMinorByType);
+        this.settledCountByType = Collections.unmodifiableMap(settledCountByType);
+        this.elapsedNanos = elapsedNanos;
+    }
+    
+    public List<PaymentResult> getResults() {
+        return results;
+    }
+    
+    public int getCount(PaymentResult.Status status) {
+        return statusCounts[status.ordinal()];
+    }
+    
+    public int getTotal() {
+        return results.size();
+    }
+    
+    public long getSettledAmountMinor() {
+        long total = 0;
+        for (long amountMinor : settledMinorByType.values()) {
+            total = Money.add(total, amountMinor);
+        }
+        return total;
+    }
+    
+    public double getSettledAmount() {
+        return Money.toMajor(getSettledAmountMinor());
+    }
+    
+    public Map<String, Long> getSettledAmountMinorByType() {
+        return settledMinorByType;
+    }
+    
+    public Map<String, Double> getSettledAmountByType() {
+        Map<String, Double> settledAmountByType = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : settledMinorByType.entrySet()) {
+            settledAmountByType.put(entry.getKey(), Money.toMajor(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(settledAmountByType);
+    }
+    
+    public Map<String, Integer> getSettledCountByType() {
+        return settledCountByType;
+    }
+    
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%d payments: %d settled, %d rejected, %d failed, %s settled in %.1f ms",
+                getTotal(), getCount(PaymentResult.Status.SETTLED), getCount(PaymentResult.Status.REJECTED),
+                getCount(PaymentResult.Status.FAILED), Money.format(getSettledAmountMinor()),
+                elapsedNanos / 1_000_000.0));
+        for (Map.Entry<String, Integer> entry : settledCountByType.entrySet()) {
+            summary.append(String.format("%n   %s: %d settled, %s", entry.getKey(), entry.getValue(),
+                    Money.format(settledMinorByType.get(entry.getKey()))));
+        }
+        return summary.toString();
+    }
+}
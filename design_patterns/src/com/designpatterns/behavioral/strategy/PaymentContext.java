@@ -1,7 +1,21 @@
 package com.designpatterns.behavioral.strategy;
 
+// setPaymentStrategy / processPayment keep the interactive one-at-a-time flow. The process
+// methods keep no state between calls, so one context can serve many threads without locking.
 public class PaymentContext {
-    private PaymentStrategy paymentStrategy;
+    private volatile PaymentStrategy paymentStrategy;
+    private final PaymentStrategyRegistry registry;
+    
+    public PaymentContext() {
+        this(new PaymentStrategyRegistry());
+    }
+    
+    public PaymentContext(PaymentStrategyRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Strategy registry cannot be null");
+        }
+        this.registry = registry;
+    }
     
     public void setPaymentStrategy(PaymentStrategy paymentStrategy) {
         if (paymentStrategy == null) {
@@ -12,15 +26,46 @@ public class PaymentContext {
     }
     
     public void processPayment(double amount) {
-        if (paymentStrategy == null) {
+        PaymentStrategy strategy = paymentStrategy;
+        if (strategy == null) {
             System.out.println("✗ No payment method selected!");
             return;
         }
         
         try {
-            paymentStrategy.pay(amount);
+            strategy.pay(amount);
         } catch (Exception e) {
             System.out.println("✗ Payment failed: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+    
+    // Settles silently with the given strategy and reports whether the payment went through
+    public boolean process(PaymentStrategy strategy, double amount) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Payment strategy cannot be null");
+        }
+        if (Double.isNaN(amount) || Double.isInfinite(amount)) {
+            return false;
+        }
+        return strategy.process(amount);
+    }
+    
+    public boolean process(String paymentType, String account, double amount) {
+        return process(registry.get(paymentType, account), amount);
+    }
+    
+    public boolean processMinor(PaymentStrategy strategy, long amountMinor) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Payment strategy cannot be null");
+        }
+        return strategy.processMinor(amountMinor);
+    }
+    
+    public boolean processMinor(String paymentType, String account, long amountMinor) {
+        return processMinor(registry.get(paymentType, account), amountMinor);
+    }
+    
+    public PaymentStrategyRegistry getRegistry() {
+        return registry;
+    }
+}
@@ -0,0 +1,145 @@
+package com.designpatterns.behavioral.strategy;
+
+import com.designpatterns.util.Money;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Settles large batches of payments. Requests are validated up front, grouped by strategy type
+// and cut into chunks that run in parallel on a bounded executor; nothing is printed per payment.
+public class PaymentPipeline {
+    private static final int DEFAULT_CHUNK_SIZE = 4096;
+    
+    private final ThreadPoolExecutor executor;
+    private final int chunkSize;
+    
+    public PaymentPipeline() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+    
+    public PaymentPipeline(int threads, int chunkSize) {
+        if (threads <= 0 || chunkSize <= 0) {
+            throw new IllegalArgumentException("Thread count and chunk size must be positive");
+        }
+        this.chunkSize = chunkSize;
+        AtomicInteger threadCount = new AtomicInteger();
+        // A full queue makes the submitting thread settle the chunk itself, which throttles submission
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4), runnable -> {
+                    Thread thread = new Thread(runnable, "payment-pipeline-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+    
+    public PaymentBatchReport process(Stream<PaymentRequest> requests) {
+        return process(requests.collect(Collectors.toList()));
+    }
+    
+    public PaymentBatchReport process(Collection<PaymentRequest> requests) {
+        long started = System.nanoTime();
+        PaymentRequest[] batch = requests.toArray(new PaymentRequest[0]);
+        PaymentResult[] results = new PaymentResult[batch.length];
+        
+        Map<Class<?>, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < batch.length; i++) {
+            String problem = validate(batch[i]);
+            if (problem != null) {
+                results[i] = new PaymentResult(batch[i], PaymentResult.Status.REJECTED, problem);
+            } else {
+                groups.computeIfAbsent(batch[i].getStrategy().getClass(), type -> new ArrayList<>()).add(i);
+            }
+        }
+        
+        List<Future<ChunkTotals>> chunks = new ArrayList<>();
+        for (List<Integer> group : groups.values()) {
+            for (int from = 0; from < group.size(); from += chunkSize) {
+                List<Integer> chunk = group.subList(from, Math.min(from + chunkSize, group.size()));
+                chunks.add(executor.submit(() -> settle(batch, results, chunk)));
+            }
+        }
+        
+        Map<String, Long> settledMinorByType = new LinkedHashMap<>();
+        Map<String, Integer> settledCountByType = new LinkedHashMap<>();
+        for (Future<ChunkTotals> chunk : chunks) {
+            ChunkTotals totals = await(chunk);
+            if (totals.type != null) {
+                settledMinorByType.merge(totals.type, totals.amountMinor, Money::add);
+                settledCountByType.merge(totals.type, totals.count, Integer::sum);
+            }
+        }
+        
+        int[] statusCounts = new int[PaymentResult.Status.values().length];
+        for (PaymentResult result : results) {
+            statusCounts[result.getStatus().ordinal()]++;
+        }
+        return new PaymentBatchReport(Arrays.asList(results), statusCounts, settledMinorByType, settledCountByType,
+                System.nanoTime() - started);
+    }
+    
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    private static String validate(PaymentRequest request) {
+        if (request == null) {
+            return "Missing request";
+        }
+        if (request.getStrategy() == null) {
+            return "No payment method selected";
+        }
+        if (request.getAmountMinor() <= 0) {
+            return "Invalid amount";
+        }
+        return null;
+    }
+    
+    // Every chunk holds a single strategy type; each writes only its own slots of results
+    private static ChunkTotals settle(PaymentRequest[] batch, PaymentResult[] results, List<Integer> chunk) {
+        ChunkTotals totals = new ChunkTotals();
+        for (int index : chunk) {
+            PaymentRequest request = batch[index];
+            try {
+                if (request.getStrategy().processMinor(request.getAmountMinor())) {
+                    results[index] = new PaymentResult(request, PaymentResult.Status.SETTLED, null);
+                    totals.type = request.getStrategy().getPaymentType();
+                    totals.amountMinor = Money.add(totals.amountMinor, request.getAmountMinor());
+                    totals.count++;
+                } else {
+                    results[index] = new PaymentResult(request, PaymentResult.Status.REJECTED, "Declined");
+                }
+            } catch (RuntimeException e) {
+                results[index] = new PaymentResult(request, PaymentResult.Status.FAILED, e.getMessage());
+            }
+        }
+        return totals;
+    }
+    
+    private static ChunkTotals await(Future<ChunkTotals> chunk) {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while settling payments", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Payment chunk failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+    
+    private static class ChunkTotals {
+        private String type;
+        private long amountMinor;
+        private int count;
+    }
+}
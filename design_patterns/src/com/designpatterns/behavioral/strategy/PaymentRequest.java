@@ -0,0 +1,43 @@
+package com.designpatterns.behavioral.strategy;
+
+import com.designpatterns.util.Money;
+
+public class PaymentRequest {
+    private final String id;
+    private final PaymentStrategy strategy;
+    private final double amount;
+    // Zero when the amount has no minor-unit form (NaN, infinite or out of range)
+    private final long amountMinor;
+    
+    public PaymentRequest(String id, PaymentStrategy strategy, double amount) {
+        this(id, strategy, amount, Money.canRepresent(amount) ? Money.ofMajor(amount) : 0);
+    }
+    
+    private PaymentRequest(String id, PaymentStrategy strategy, double amount, long amountMinor) {
+        this.id = id;
+        this.strategy = strategy;
+        this.amount = amount;
+        this.amountMinor = amountMinor;
+    }
+    
+    // A factory rather than a constructor overload, so an int amount cannot silently mean paise
+    public static PaymentRequest ofMinor(String id, PaymentStrategy strategy, long amountMinor) {
+        return new PaymentRequest(id, strategy, Money.toMajor(amountMinor), amountMinor);
+    }
+    
+    public String getId() {
+        return id;
+    }
+    
+    public PaymentStrategy getStrategy() {
+        return strategy;
+    }
+    
+    public double getAmount() {
+        return amount;
+    }
+    
+    public long getAmountMinor() {
+        return amountMinor;
+    }
+}
@@ -0,0 +1,36 @@
+package com.designpatterns.behavioral.strategy;
+
+public class PaymentResult {
+    public enum Status {
+        SETTLED,
+        REJECTED,
+        FAILED
+    }
+    
+    private final PaymentRequest request;
+    private final Status status;
+    private final String message;
+    
+    public PaymentResult(PaymentRequest request, Status status, String message) {
+        this.request = request;
+        this.status = status;
+        this.message = message;
+    }
+    
+    public PaymentRequest getRequest() {
+        return request;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    @Override
+    public String toString() {
+        return request.getId() + ": " + status + (message != null ? " (" + message + ")" : "");
+    }
+}
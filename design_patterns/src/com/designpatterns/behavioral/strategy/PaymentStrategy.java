@@ -1,6 +1,26 @@
 package com.designpatterns.behavioral.strategy;
 
+import com.designpatterns.util.Money;
+
 public interface PaymentStrategy {
     void pay(double amount);
     String getPaymentType();
+    
+    // Settles the payment and reports whether it went through. Strategies written before the
+    // batch pipeline fall back to pay(); the built-in ones override it to skip console output
+    // and to report declines.
+    default boolean process(double amount) {
+        pay(amount);
+        return true;
+    }
+    
+    // Amounts in paise. These are named rather than overloaded because pay(500) would otherwise
+    // silently bind to the long version and mean 5 rupees.
+    default void payMinor(long amountMinor) {
+        pay(Money.toMajor(amountMinor));
+    }
+    
+    default boolean processMinor(long amountMinor) {
+        return process(Money.toMajor(amountMinor));
+    }
 }
@@ -0,0 +1,78 @@
+package com.designpatterns.behavioral.strategy;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Hands out shared strategy instances keyed by payment type and account. Strategies are
+// immutable, so one instance can serve any number of threads at once.
+public class PaymentStrategyRegistry {
+    private static final int DEFAULT_MAX_CACHED = 10000;
+    private static final PaymentStrategy CASH = new CashPayment();
+    
+    private final ConcurrentHashMap<String, PaymentStrategy> strategies;
+    private final int maxCached;
+    
+    public PaymentStrategyRegistry() {
+        this(DEFAULT_MAX_CACHED);
+    }
+    
+    public PaymentStrategyRegistry(int maxCached) {
+        if (maxCached < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative");
+        }
+        this.strategies = new ConcurrentHashMap<>();
+        this.maxCached = maxCached;
+    }
+    
+    public PaymentStrategy creditCard(String cardNumber) {
+        if (cardNumber == null || cardNumber.isEmpty()) {
+            throw new IllegalArgumentException("Card number cannot be null or empty");
+        }
+        return lookup("card|" + cardNumber, () -> new CreditCardPayment(cardNumber));
+    }
+    
+    public PaymentStrategy upi(String upiId) {
+        if (upiId == null || upiId.isEmpty()) {
+            throw new IllegalArgumentException("UPI ID cannot be null or empty");
+        }
+        return lookup("upi|" + upiId, () -> new UPIPayment(upiId));
+    }
+    
+    public PaymentStrategy cash() {
+        return CASH;
+    }
+    
+    // Accepts the names returned by getPaymentType(), ignoring case; cash needs no account
+    public PaymentStrategy get(String paymentType, String account) {
+        if (paymentType == null) {
+            throw new IllegalArgumentException("Payment type cannot be null");
+        }
+        String type = paymentType.trim();
+        if ("credit card".equalsIgnoreCase(type)) {
+            return creditCard(account);
+        }
+        if ("upi".equalsIgnoreCase(type)) {
+            return upi(account);
+        }
+        if ("cash".equalsIgnoreCase(type)) {
+            return cash();
+        }
+        throw new IllegalArgumentException("Unknown payment type: " + paymentType);
+    }
+    
+    public int size() {
+        return strategies.size();
+    }
+    
+    // Once the cache is full, new accounts get a fresh instance instead of growing the map without bound
+    private PaymentStrategy lookup(String key, Supplier<PaymentStrategy> factory) {
+        PaymentStrategy strategy = strategies.get(key);
+        if (strategy != null) {
+            return strategy;
+        }
+        if (strategies.size() >= maxCached) {
+            return factory.get();
+        }
+        return strategies.computeIfAbsent(key, k -> factory.get());
+    }
+}
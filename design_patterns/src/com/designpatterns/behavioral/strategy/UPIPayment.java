@@ -1,7 +1,7 @@
 package com.designpatterns.behavioral.strategy;
 
 public class UPIPayment implements PaymentStrategy {
-    private String upiId;
+    private final String upiId;
     
     public UPIPayment(String upiId) {
         if (upiId == null || upiId.isEmpty()) {
@@ -22,6 +22,16 @@ public class UPIPayment implements PaymentStrategy {
         System.out.println("✓ Payment successful via UPI!");
     }
     
+    @Override
+    public boolean process(double amount) {
+        return amount > 0;
+    }
+    
+    @Override
+    public boolean processMinor(long amountMinor) {
+        return amountMinor > 0;
+    }
+    
     @Override
     public String getPaymentType() {
         return "UPI";
@@ -0,0 +1,67 @@
+package com.designpatterns.benchmark;
+
+import com.designpatterns.behavioral.strategy.PaymentContext;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Measures payment throughput of one shared PaymentContext as the number of threads grows.
+// Usage: java -cp src com.designpatterns.benchmark.PaymentBenchmark [paymentsPerThread] [maxThreads]
+public class PaymentBenchmark {
+    private static final String[] TYPES = {"Credit Card", "UPI", "Cash"};
+    private static final String[] ACCOUNTS = {"1234-5678-9012-3456", "user@upi", null};
+    
+    public static void main(String[] args) throws InterruptedException {
+        int paymentsPerThread = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        
+        PaymentContext context = new PaymentContext();
+        run(context, 1, paymentsPerThread, false);
+        
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            long settled = run(context, threads, paymentsPerThread, true);
+            if (settled != (long) threads * paymentsPerThread) {
+                System.out.println("✗ Expected " + (long) threads * paymentsPerThread + " settled payments but got "
+                        + settled);
+            }
+        }
+    }
+    
+    private static long run(PaymentContext context, int threads, int paymentsPerThread, boolean report)
+            throws InterruptedException {
+        AtomicLong settled = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            new Thread(() -> {
+                long count = 0;
+                try {
+                    start.await();
+                    for (int i = 0; i < paymentsPerThread; i++) {
+                        int method = (i + offset) % TYPES.length;
+                        if (context.process(TYPES[method], ACCOUNTS[method], 1 + i % 500)) {
+                            count++;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    settled.addAndGet(count);
+                    done.countDown();
+                }
+            }).start();
+        }
+        
+        long started = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - started;
+        
+        long payments = (long) threads * paymentsPerThread;
+        if (report) {
+            System.out.printf("%2d threads: %d payments in %.1f ms, %.0f payments/s%n",
+                    threads, payments, elapsedNanos / 1_000_000.0, payments / (elapsedNanos / 1_000_000_000.0));
+        }
+        return settled.get();
+    }
+}
@@ -0,0 +1,63 @@
+package com.designpatterns.benchmark;
+
+import com.designpatterns.creational.singleton.ConnectionPool;
+import com.designpatterns.creational.singleton.PooledConnection;
+import com.designpatterns.creational.singleton.PreparedQuery;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// Compares one query per round trip with batched, prepared and pipelined execution against
+// the stand-in backend with simulated latency.
+// Usage: java -cp src com.designpatterns.benchmark.QueryBenchmark [queries] [roundTripMicros]
+public class QueryBenchmark {
+    public static void main(String[] args) throws Exception {
+        int queries = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        long roundTripMicros = args.length > 1 ? Long.parseLong(args[1]) : 500;
+        
+        ConnectionPool pool = new ConnectionPool("jdbc:mysql://localhost:3306/mydb", 1, 1, 5000, 60000,
+                TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+        List<String> batch = new ArrayList<>(queries);
+        for (int i = 0; i < queries; i++) {
+            batch.add("UPDATE users SET visits = visits + 1 WHERE id = " + i);
+        }
+        
+        PooledConnection connection = pool.borrow();
+        try {
+            long started = System.nanoTime();
+            for (String query : batch) {
+                connection.execute(query);
+            }
+            report("one per round trip", queries, System.nanoTime() - started);
+            
+            started = System.nanoTime();
+            connection.executeBatch(batch);
+            report("batched", queries, System.nanoTime() - started);
+            
+            started = System.nanoTime();
+            for (int i = 0; i < queries; i++) {
+                PreparedQuery prepared = connection.prepare("UPDATE users SET visits = visits + 1 WHERE id = ?");
+                connection.executePrepared(prepared, i);
+            }
+            report("prepared, cached", queries, System.nanoTime() - started);
+            
+            started = System.nanoTime();
+            List<CompletableFuture<String>> replies = new ArrayList<>(queries);
+            for (String query : batch) {
+                replies.add(connection.submit(query));
+            }
+            CompletableFuture.allOf(replies.toArray(new CompletableFuture<?>[0])).join();
+            report("pipelined", queries, System.nanoTime() - started);
+        } finally {
+            pool.release(connection);
+            pool.close();
+        }
+    }
+    
+    private static void report(String mode, int queries, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("%-20s %d queries in %8.1f ms: %10.0f queries/s%n",
+                mode, queries, elapsedNanos / 1_000_000.0, queries / seconds);
+    }
+}
@@ -0,0 +1,7 @@
+package com.designpatterns.creational.singleton;
+
+public enum BackpressurePolicy {
+    BLOCK,
+    DROP,
+    SAMPLE
+}
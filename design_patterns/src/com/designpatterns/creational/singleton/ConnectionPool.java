@@ -0,0 +1,182 @@
+package com.designpatterns.creational.singleton;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Bounded pool of stand-in connections. A semaphore with maxSize permits caps the
+// connections handed out, so waiting for a permit is waiting for a connection; idle
+// ones are reused most-recently-used first and validated before they are handed out.
+public class ConnectionPool {
+    private final String connectionString;
+    private final int minSize;
+    private final int maxSize;
+    private final long borrowTimeoutNanos;
+    private final long idleTimeoutNanos;
+    private final long roundTripNanos;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledConnection> idle;
+    private final ScheduledExecutorService evictor;
+    private final AtomicInteger active;
+    private final AtomicLong created;
+    private final AtomicLong destroyed;
+    private final AtomicLong borrows;
+    private final AtomicLong timeouts;
+    private final AtomicLong totalWaitNanos;
+    private final AtomicLong maxWaitNanos;
+    private volatile boolean closed;
+    
+    public ConnectionPool(String connectionString, int minSize, int maxSize,
+                          long borrowTimeoutMillis, long idleTimeoutMillis) {
+        this(connectionString, minSize, maxSize, borrowTimeoutMillis, idleTimeoutMillis, 0);
+    }
+    
+    // roundTripNanos is the simulated latency of every request on the pool's connections
+    public ConnectionPool(String connectionString, int minSize, int maxSize,
+                          long borrowTimeoutMillis, long idleTimeoutMillis, long roundTripNanos) {
+        if (minSize < 0 || maxSize <= 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Pool sizes must satisfy 0 <= min <= max and max > 0");
+        }
+        if (borrowTimeoutMillis < 0 || idleTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Borrow timeout must be non-negative and idle timeout positive");
+        }
+        
+        this.connectionString = connectionString;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.borrowTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMillis);
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.roundTripNanos = roundTripNanos;
+        this.permits = new Semaphore(maxSize, true);
+        this.idle = new LinkedBlockingDeque<>();
+        this.active = new AtomicInteger();
+        this.created = new AtomicLong();
+        this.destroyed = new AtomicLong();
+        this.borrows = new AtomicLong();
+        this.timeouts = new AtomicLong();
+        this.totalWaitNanos = new AtomicLong();
+        this.maxWaitNanos = new AtomicLong();
+        
+        for (int i = 0; i < minSize; i++) {
+            idle.offerFirst(open());
+        }
+        
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, idleTimeoutMillis / 2);
+        this.evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+    
+    public PooledConnection borrow() throws InterruptedException {
+        if (closed) {
+            throw new IllegalStateException("Connection pool is closed");
+        }
+        
+        long started = System.nanoTime();
+        if (!permits.tryAcquire(borrowTimeoutNanos, TimeUnit.NANOSECONDS)) {
+            timeouts.incrementAndGet();
+            throw new IllegalStateException("Timed out after " + TimeUnit.NANOSECONDS.toMillis(borrowTimeoutNanos)
+                    + " ms waiting for a database connection");
+        }
+        recordWait(System.nanoTime() - started);
+        
+        try {
+            PooledConnection connection;
+            while ((connection = idle.pollFirst()) != null) {
+                if (connection.isValid()) {
+                    break;
+                }
+                destroy(connection);
+            }
+            if (connection == null) {
+                connection = open();
+            }
+            connection.touch();
+            active.incrementAndGet();
+            return connection;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+    
+    public void release(PooledConnection connection) {
+        if (connection == null) {
+            return;
+        }
+        
+        active.decrementAndGet();
+        if (closed || !connection.isValid()) {
+            destroy(connection);
+        } else {
+            connection.touch();
+            idle.offerFirst(connection);
+        }
+        permits.release();
+    }
+    
+    // Closes connections idle for longer than the idle timeout, oldest first, but keeps minSize open
+    private void evictIdle() {
+        long now = System.nanoTime();
+        PooledConnection oldest;
+        while (idle.size() + active.get() > minSize && (oldest = idle.peekLast()) != null
+                && now - oldest.getLastUsedNanos() > idleTimeoutNanos) {
+            if (idle.removeLastOccurrence(oldest)) {
+                destroy(oldest);
+            }
+        }
+    }
+    
+    private PooledConnection open() {
+        created.incrementAndGet();
+        return new PooledConnection(connectionString, roundTripNanos);
+    }
+    
+    private void destroy(PooledConnection connection) {
+        connection.close();
+        destroyed.incrementAndGet();
+    }
+    
+    private void recordWait(long waitNanos) {
+        borrows.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        long max = maxWaitNanos.get();
+        while (waitNanos > max && !maxWaitNanos.compareAndSet(max, waitNanos)) {
+            max = maxWaitNanos.get();
+        }
+    }
+    
+    public PoolMetrics getMetrics() {
+        return new PoolMetrics(active.get(), idle.size(), created.get(), destroyed.get(), borrows.get(),
+                timeouts.get(), totalWaitNanos.get(), maxWaitNanos.get());
+    }
+    
+    public int getMinSize() {
+        return minSize;
+    }
+    
+    public int getMaxSize() {
+        return maxSize;
+    }
+    
+    public long getRoundTripNanos() {
+        return roundTripNanos;
+    }
+    
+    // Idle connections close now; borrowed ones close as they are released
+    public void close() {
+        closed = true;
+        evictor.shutdownNow();
+        PooledConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            destroy(connection);
+        }
+    }
+}
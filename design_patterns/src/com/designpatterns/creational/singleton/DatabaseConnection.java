@@ -1,14 +1,33 @@
 package com.designpatterns.creational.singleton;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 public class DatabaseConnection {
-    private static DatabaseConnection instance;
-    private boolean connected;
+    private static volatile DatabaseConnection instance;
+    private static final int DEFAULT_MIN_POOL_SIZE = 2;
+    private static final int DEFAULT_MAX_POOL_SIZE = 10;
+    private static final long DEFAULT_BORROW_TIMEOUT_MILLIS = 5000;
+    private static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 60000;
+    private volatile boolean connected;
+    private volatile ConnectionPool pool;
+    private PooledConnection pipelineConnection;
     private String connectionString;
+    private int minPoolSize;
+    private int maxPoolSize;
+    private long borrowTimeoutMillis;
+    private long idleTimeoutMillis;
+    private long roundTripMicros;
     private static final Object lock = new Object();
     
     private DatabaseConnection() {
         this.connected = false;
         this.connectionString = "jdbc:mysql://localhost:3306/mydb";
+        this.minPoolSize = DEFAULT_MIN_POOL_SIZE;
+        this.maxPoolSize = DEFAULT_MAX_POOL_SIZE;
+        this.borrowTimeoutMillis = DEFAULT_BORROW_TIMEOUT_MILLIS;
+        this.idleTimeoutMillis = DEFAULT_IDLE_TIMEOUT_MILLIS;
     }
     
     public static DatabaseConnection getInstance() {
@@ -23,27 +42,56 @@ public class DatabaseConnection {
         return instance;
     }
     
-    public void connect() {
+    // Takes effect on the next connect()
+    public synchronized void configurePool(int minSize, int maxSize, long borrowTimeoutMillis, long idleTimeoutMillis) {
+        if (minSize < 0 || maxSize <= 0 || minSize > maxSize || borrowTimeoutMillis < 0 || idleTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Invalid connection pool settings");
+        }
+        this.minPoolSize = minSize;
+        this.maxPoolSize = maxSize;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+    
+    // Simulated network latency of every request, to show what batching and pipelining save;
+    // takes effect on the next connect()
+    public synchronized void setSimulatedLatency(long roundTripMicros) {
+        if (roundTripMicros < 0) {
+            throw new IllegalArgumentException("Latency must not be negative");
+        }
+        this.roundTripMicros = roundTripMicros;
+    }
+    
+    public synchronized void connect() {
         if (!connected) {
             System.out.println("🔌 Connecting to database...");
             System.out.println("   Connection String: " + connectionString);
+            pool = new ConnectionPool(connectionString, minPoolSize, maxPoolSize,
+                    borrowTimeoutMillis, idleTimeoutMillis, TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
             connected = true;
-            System.out.println("✓ Connected to database successfully!");
+            System.out.println("✓ Connected to database successfully! (pool of " + minPoolSize + "-" + maxPoolSize
+                    + " connections)");
         } else {
             System.out.println("⚠ Already connected to database");
         }
     }
     
-    public void disconnect() {
+    public synchronized void disconnect() {
         if (connected) {
             System.out.println("🔌 Disconnecting from database...");
             connected = false;
+            if (pipelineConnection != null) {
+                pipelineConnection.close();
+                pipelineConnection = null;
+            }
+            pool.close();
             System.out.println("✓ Disconnected from database");
         } else {
             System.out.println("⚠ Not connected to database");
         }
     }
     
+    // Each call runs on its own pooled connection, so concurrent callers do not queue behind each other
     public void executeQuery(String query) {
         if (!connected) {
             System.out.println("✗ Cannot execute query: Not connected to database");
@@ -55,11 +103,138 @@ public class DatabaseConnection {
             return;
         }
         
-        System.out.println("📊 Executing query: " + query);
-        System.out.println("✓ Query executed successfully");
+        ConnectionPool current = pool;
+        PooledConnection connection = borrowConnection(current);
+        if (connection == null) {
+            return;
+        }
+        
+        try {
+            System.out.println("📊 Executing query: " + query);
+            connection.execute(query);
+            System.out.println("✓ Query executed successfully");
+        } finally {
+            current.release(connection);
+        }
+    }
+    
+    // Sends all queries in a single round trip on one connection
+    public void executeBatch(List<String> queries) {
+        if (!connected) {
+            System.out.println("✗ Cannot execute batch: Not connected to database");
+            connect();
+        }
+        
+        if (queries == null || queries.isEmpty()) {
+            System.out.println("✗ Invalid batch");
+            return;
+        }
+        for (String query : queries) {
+            if (query == null || query.isEmpty()) {
+                System.out.println("✗ Invalid query in batch");
+                return;
+            }
+        }
+        
+        ConnectionPool current = pool;
+        PooledConnection connection = borrowConnection(current);
+        if (connection == null) {
+            return;
+        }
+        
+        try {
+            System.out.println("📊 Executing batch of " + queries.size() + " queries");
+            connection.executeBatch(queries);
+            System.out.println("✓ Batch executed successfully");
+        } finally {
+            current.release(connection);
+        }
+    }
+    
+    // Each connection caches its prepared queries by SQL text, so repeating a query skips the parse round trip
+    public void executePrepared(String sql, Object... parameters) {
+        if (!connected) {
+            System.out.println("✗ Cannot execute query: Not connected to database");
+            connect();
+        }
+        
+        if (sql == null || sql.isEmpty()) {
+            System.out.println("✗ Invalid query");
+            return;
+        }
+        
+        ConnectionPool current = pool;
+        PooledConnection connection = borrowConnection(current);
+        if (connection == null) {
+            return;
+        }
+        
+        try {
+            System.out.println("📊 Executing prepared query: " + sql);
+            connection.executePrepared(connection.prepare(sql), parameters);
+            System.out.println("✓ Query executed successfully");
+        } catch (IllegalArgumentException e) {
+            System.out.println("✗ " + e.getMessage());
+        } finally {
+            current.release(connection);
+        }
+    }
+    
+    // Pipelines the query on one connection shared by all async callers, so many requests can be
+    // in flight at once. That connection sits outside the pool's quota and never takes a permit
+    // from synchronous queries.
+    public CompletableFuture<String> executeQueryAsync(String query) {
+        CompletableFuture<String> failed = new CompletableFuture<>();
+        if (query == null || query.isEmpty()) {
+            failed.completeExceptionally(new IllegalArgumentException("Invalid query"));
+            return failed;
+        }
+        if (!connected) {
+            connect();
+        }
+        
+        PooledConnection connection;
+        try {
+            connection = pipelineConnection();
+        } catch (IllegalStateException e) {
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        return connection.submit(query);
+    }
+    
+    private synchronized PooledConnection pipelineConnection() {
+        if (!connected) {
+            throw new IllegalStateException("Not connected to database");
+        }
+        if (pipelineConnection == null || !pipelineConnection.isValid()) {
+            if (pipelineConnection != null) {
+                pipelineConnection.close();
+            }
+            pipelineConnection = new PooledConnection(connectionString, pool.getRoundTripNanos());
+        }
+        return pipelineConnection;
+    }
+    
+    private PooledConnection borrowConnection(ConnectionPool current) {
+        try {
+            return current.borrow();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.out.println("✗ Interrupted while waiting for a database connection");
+            return null;
+        } catch (IllegalStateException e) {
+            System.out.println("✗ " + e.getMessage());
+            return null;
+        }
     }
     
     public boolean isConnected() {
         return connected;
     }
+    
+    public PoolMetrics getPoolMetrics() {
+        ConnectionPool current = pool;
+        return current != null ? current.getMetrics() : null;
+    }
 }
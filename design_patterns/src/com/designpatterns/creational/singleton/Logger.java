@@ -11,6 +11,9 @@ public class Logger {
     private static final String LOG_FILE = "logs/application.log";
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     private static final Object lock = new Object();
+    private volatile AsyncLogWriter asyncWriter;
+    private boolean shutdownHookRegistered;
+    private volatile boolean shutDown;
     
     private Logger() {
         initializeLogFile();
@@ -54,8 +57,54 @@ public class Logger {
         writeToFile(logMessage);
     }
     
+    public void enableAsyncMode(int capacity, BackpressurePolicy policy) {
+        synchronized (lock) {
+            if (asyncWriter != null) {
+                return;
+            }
+            shutDown = false;
+            try {
+                asyncWriter = new AsyncLogWriter(LOG_FILE, capacity, policy);
+            } catch (IOException e) {
+                System.err.println("Failed to start async logging, using synchronous writes: " + e.getMessage());
+                return;
+            }
+            if (!shutdownHookRegistered) {
+                Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
+                shutdownHookRegistered = true;
+            }
+        }
+    }
+    
+    public boolean isAsyncMode() {
+        return asyncWriter != null;
+    }
+    
+    // Late callers skip the closing writer and wait on the lock, so their direct writes land
+    // after the final drain instead of being queued where nothing will read them
+    public void shutdown() {
+        synchronized (lock) {
+            shutDown = true;
+            AsyncLogWriter writer = asyncWriter;
+            asyncWriter = null;
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+    
     private void writeToFile(String message) {
+        AsyncLogWriter async = shutDown ? null : asyncWriter;
+        if (async != null && async.submit(message)) {
+            return;
+        }
+        
+        // A submit refused while async mode is being restarted goes to the new writer once it is in place
         synchronized (lock) {
+            AsyncLogWriter current = shutDown ? null : asyncWriter;
+            if (current != null && current != async && current.submit(message)) {
+                return;
+            }
             try (FileWriter writer = new FileWriter(LOG_FILE, true)) {
                 writer.write(message + System.lineSeparator());
             } catch (IOException e) {
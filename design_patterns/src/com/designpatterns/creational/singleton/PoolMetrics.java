@@ -0,0 +1,63 @@
+package com.designpatterns.creational.singleton;
+
+public class PoolMetrics {
+    private final int active;
+    private final int idle;
+    private final long created;
+    private final long destroyed;
+    private final long borrows;
+    private final long timeouts;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+    
+    public PoolMetrics(int active, int idle, long created, long destroyed, long borrows, long timeouts,
+                       long totalWaitNanos, long maxWaitNanos) {
+        this.active = active;
+        this.idle = idle;
+        this.created = created;
+        this.destroyed = destroyed;
+        this.borrows = borrows;
+        this.timeouts = timeouts;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+    }
+    
+    public int getActive() {
+        return active;
+    }
+    
+    public int getIdle() {
+        return idle;
+    }
+    
+    public long getCreated() {
+        return created;
+    }
+    
+    public long getDestroyed() {
+        return destroyed;
+    }
+    
+    public long getBorrows() {
+        return borrows;
+    }
+    
+    public long getTimeouts() {
+        return timeouts;
+    }
+    
+    public double getAverageWaitMillis() {
+        return borrows == 0 ? 0 : totalWaitNanos / 1_000_000.0 / borrows;
+    }
+    
+    public double getMaxWaitMillis() {
+        return maxWaitNanos / 1_000_000.0;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("active=%d idle=%d created=%d destroyed=%d borrows=%d timeouts=%d "
+                + "avgWait=%.3fms maxWait=%.3fms",
+                active, idle, created, destroyed, borrows, timeouts, getAverageWaitMillis(), getMaxWaitMillis());
+    }
+}
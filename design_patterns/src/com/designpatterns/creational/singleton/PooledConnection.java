@@ -0,0 +1,198 @@
+package com.designpatterns.creational.singleton;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// In-process stand-in for a driver connection, so the pool can be exercised without a database.
+// Every request pays roundTripNanos, the simulated network latency to the server.
+public class PooledConnection {
+    private static final int MAX_PREPARED_QUERIES = 64;
+    private static final AtomicInteger nextId = new AtomicInteger(1);
+    // Times pipelined responses; equal delays run in submission order, so replies stay in order
+    private static final ScheduledExecutorService server = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "simulated-database");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Completes the reply futures, so callers' continuations never run on (and queue behind) the server thread
+    private static final ExecutorService replies = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, "database-replies");
+                thread.setDaemon(true);
+                return thread;
+            });
+    
+    private final int id;
+    private final String connectionString;
+    private final long roundTripNanos;
+    private final long createdNanos;
+    private final Map<String, PreparedQuery> preparedQueries;
+    private final AtomicLong roundTrips;
+    private volatile long lastUsedNanos;
+    private volatile boolean open;
+    private volatile boolean broken;
+    
+    public PooledConnection(String connectionString) {
+        this(connectionString, 0);
+    }
+    
+    public PooledConnection(String connectionString, long roundTripNanos) {
+        this.id = nextId.getAndIncrement();
+        this.connectionString = connectionString;
+        this.roundTripNanos = roundTripNanos;
+        this.createdNanos = System.nanoTime();
+        this.lastUsedNanos = createdNanos;
+        // Least recently used statements are closed first, like a driver's statement cache
+        this.preparedQueries = new LinkedHashMap<String, PreparedQuery>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedQuery> eldest) {
+                return size() > MAX_PREPARED_QUERIES;
+            }
+        };
+        this.roundTrips = new AtomicLong();
+        this.open = true;
+    }
+    
+    public String execute(String query) {
+        checkValid();
+        roundTrip();
+        return "OK (connection " + id + ")";
+    }
+    
+    // The whole batch travels in one round trip instead of one per query
+    public List<String> executeBatch(List<String> queries) {
+        checkValid();
+        roundTrip();
+        List<String> results = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            results.add("OK (connection " + id + ", batch item " + (i + 1) + ")");
+        }
+        return results;
+    }
+    
+    // Parsing costs a round trip the first time; later calls with the same SQL text reuse the handle
+    public PreparedQuery prepare(String sql) {
+        checkValid();
+        synchronized (preparedQueries) {
+            PreparedQuery prepared = preparedQueries.get(sql);
+            if (prepared != null) {
+                return prepared;
+            }
+        }
+        
+        roundTrip();
+        PreparedQuery prepared = new PreparedQuery(sql, id);
+        synchronized (preparedQueries) {
+            PreparedQuery existing = preparedQueries.putIfAbsent(sql, prepared);
+            return existing != null ? existing : prepared;
+        }
+    }
+    
+    public String executePrepared(PreparedQuery prepared, Object... parameters) {
+        checkValid();
+        if (prepared.getConnectionId() != id) {
+            throw new IllegalArgumentException("Query was prepared on connection " + prepared.getConnectionId());
+        }
+        if (parameters.length != prepared.getParameterCount()) {
+            throw new IllegalArgumentException("Expected " + prepared.getParameterCount() + " parameters but got "
+                    + parameters.length);
+        }
+        roundTrip();
+        return "OK (connection " + id + ", prepared)";
+    }
+    
+    // Sends the query without waiting for earlier replies, so several requests share one round trip
+    public CompletableFuture<String> submit(String query) {
+        CompletableFuture<String> reply = new CompletableFuture<>();
+        if (!isValid()) {
+            reply.completeExceptionally(new IllegalStateException("Connection " + id + " is closed"));
+            return reply;
+        }
+        
+        lastUsedNanos = System.nanoTime();
+        roundTrips.incrementAndGet();
+        String result = "OK (connection " + id + ", pipelined)";
+        if (roundTripNanos <= 0) {
+            reply.complete(result);
+        } else {
+            server.schedule(() -> replies.execute(() -> reply.complete(result)), roundTripNanos,
+                    TimeUnit.NANOSECONDS);
+        }
+        return reply;
+    }
+    
+    // Cheap liveness check, the stand-in for a driver's isValid / ping
+    public boolean isValid() {
+        return open && !broken;
+    }
+    
+    // Simulates a connection dropped by the server
+    public void markBroken() {
+        broken = true;
+    }
+    
+    public void close() {
+        open = false;
+        synchronized (preparedQueries) {
+            preparedQueries.clear();
+        }
+    }
+    
+    public int getId() {
+        return id;
+    }
+    
+    public String getConnectionString() {
+        return connectionString;
+    }
+    
+    public long getCreatedNanos() {
+        return createdNanos;
+    }
+    
+    public long getLastUsedNanos() {
+        return lastUsedNanos;
+    }
+    
+    public long getRoundTrips() {
+        return roundTrips.get();
+    }
+    
+    public int getPreparedQueryCount() {
+        synchronized (preparedQueries) {
+            return preparedQueries.size();
+        }
+    }
+    
+    void touch() {
+        lastUsedNanos = System.nanoTime();
+    }
+    
+    private void checkValid() {
+        if (!isValid()) {
+            throw new IllegalStateException("Connection " + id + " is closed");
+        }
+    }
+    
+    private void roundTrip() {
+        roundTrips.incrementAndGet();
+        lastUsedNanos = System.nanoTime();
+        if (roundTripNanos > 0) {
+            long deadline = System.nanoTime() + roundTripNanos;
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(remaining);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.designpatterns.creational.singleton;
+
+// Server-side handle for a parsed query; only valid on the connection that prepared it
+public class PreparedQuery {
+    private final String sql;
+    private final int connectionId;
+    private final int parameterCount;
+    
+    PreparedQuery(String sql, int connectionId) {
+        this.sql = sql;
+        this.connectionId = connectionId;
+        int count = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            if (sql.charAt(i) == '?') {
+                count++;
+            }
+        }
+        this.parameterCount = count;
+    }
+    
+    public String getSql() {
+        return sql;
+    }
+    
+    public int getConnectionId() {
+        return connectionId;
+    }
+    
+    public int getParameterCount() {
+        return parameterCount;
+    }
+}
@@ -6,6 +6,10 @@ import com.designpatterns.creational.factory.*;
 import com.designpatterns.creational.singleton.*;
 import com.designpatterns.structural.adapter.*;
 import com.designpatterns.structural.decorator.*;
+import com.designpatterns.util.Money;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Scanner;
 
 public class MenuManager {
@@ -124,6 +128,10 @@ public class MenuManager {
         System.out.println("Setting temperature to 28°C:");
         station.setTemperature(28.0f);
         
+        System.out.println("\nSubscribing to 4-reading aggregates and publishing a batch of sensor readings:");
+        station.subscribeAggregates(aggregate -> System.out.println("📊 Window summary: " + aggregate), 4, 4);
+        station.publishReadings(new float[] {27.5f, 29.0f, 36.2f, 31.4f}, 0, 4);
+        
         logger.log("Observer pattern completed");
     }
     
@@ -143,6 +151,29 @@ public class MenuManager {
         paymentContext.setPaymentStrategy(new CashPayment());
         paymentContext.processPayment(150.0);
         
+        System.out.println("\nPaying 200 rupees via UPI through the shared, stateless context:");
+        boolean settled = paymentContext.process("UPI", "user@upi", 200.0);
+        System.out.println(settled ? "✓ Payment settled" : "✗ Payment declined");
+        
+        System.out.println("\nRetrying payment ORDER-42 through the idempotency cache:");
+        IdempotencyCache idempotencyCache = new IdempotencyCache(paymentContext, 60000, 10000);
+        PaymentRequest order = new PaymentRequest("ORDER-42", new CreditCardPayment("1234-5678-9012-3456"), 750.0);
+        System.out.println("First attempt: " + idempotencyCache.process(order));
+        System.out.println("Retry: " + idempotencyCache.process(order));
+        System.out.println("Cache: " + idempotencyCache.getMetrics());
+        
+        System.out.println("\nSettling a batch of 10000 payments:");
+        PaymentStrategy[] methods = {new CreditCardPayment("1234-5678-9012-3456"), new UPIPayment("user@upi"),
+                new CashPayment()};
+        List<PaymentRequest> batch = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            batch.add(new PaymentRequest("PAY-" + i, methods[i % methods.length], 10 + i % 490));
+        }
+        batch.add(new PaymentRequest("PAY-INVALID", new CashPayment(), -5));
+        PaymentPipeline pipeline = new PaymentPipeline();
+        System.out.println(pipeline.process(batch));
+        pipeline.shutdown();
+        
         logger.log("Strategy pattern completed");
     }
     
@@ -180,6 +211,10 @@ public class MenuManager {
         
         DatabaseConnection db2 = DatabaseConnection.getInstance();
         db2.executeQuery("SELECT * FROM products");
+        db2.executeBatch(Arrays.asList("UPDATE products SET stock = stock - 1 WHERE id = 7",
+                "INSERT INTO orders (product_id) VALUES (7)"));
+        db2.executePrepared("SELECT * FROM users WHERE id = ?", 42);
+        System.out.println("Async query: " + db2.executeQueryAsync("SELECT COUNT(*) FROM orders").join());
         
         System.out.println("\nChecking if both instances are same:");
         if (db1 == db2) {
@@ -188,6 +223,7 @@ public class MenuManager {
             System.out.println("✗ Different instances (Singleton failed!)");
         }
         
+        System.out.println("Connection pool: " + db1.getPoolMetrics());
         db1.disconnect();
         
         logger.log("Singleton pattern completed");
@@ -232,6 +268,10 @@ public class MenuManager {
         );
         System.out.println(premiumCoffee.getDescription() + " - ₹" + premiumCoffee.getCost());
         
+        long orderTotal = Money.add(Money.add(simpleCoffee.getCostMinor(), milkCoffee.getCostMinor()),
+                Money.add(sugarMilkCoffee.getCostMinor(), premiumCoffee.getCostMinor()));
+        System.out.println("Order total: " + Money.format(orderTotal));
+        
         logger.log("Decorator pattern completed");
     }
 }
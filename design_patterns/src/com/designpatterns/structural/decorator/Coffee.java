@@ -1,6 +1,13 @@
 package com.designpatterns.structural.decorator;
 
+import com.designpatterns.util.Money;
+
 public interface Coffee {
     String getDescription();
     double getCost();
+    
+    // Exact cost in paise; implementations that only know getCost() get it rounded
+    default long getCostMinor() {
+        return Money.ofMajor(getCost());
+    }
 }
@@ -1,5 +1,7 @@
 package com.designpatterns.structural.decorator;
 
+import com.designpatterns.util.Money;
+
 public class MilkDecorator extends CoffeeDecorator {
     
     public MilkDecorator(Coffee coffee) {
@@ -13,6 +15,11 @@ public class MilkDecorator extends CoffeeDecorator {
     
     @Override
     public double getCost() {
-        return decoratedCoffee.getCost() + 20.0;
+        return Money.toMajor(getCostMinor());
+    }
+    
+    @Override
+    public long getCostMinor() {
+        return Money.add(decoratedCoffee.getCostMinor(), 20_00);
     }
 }
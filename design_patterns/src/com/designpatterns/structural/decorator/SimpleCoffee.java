@@ -1,5 +1,7 @@
 package com.designpatterns.structural.decorator;
 
+import com.designpatterns.util.Money;
+
 public class SimpleCoffee implements Coffee {
     
     @Override
@@ -9,6 +11,11 @@ public class SimpleCoffee implements Coffee {
     
     @Override
     public double getCost() {
-        return 50.0;
+        return Money.toMajor(getCostMinor());
+    }
+    
+    @Override
+    public long getCostMinor() {
+        return 50_00;
     }
 }
@@ -1,5 +1,7 @@
 package com.designpatterns.structural.decorator;
 
+import com.designpatterns.util.Money;
+
 public class SugarDecorator extends CoffeeDecorator {
     
     public SugarDecorator(Coffee coffee) {
@@ -13,6 +15,11 @@ public class SugarDecorator extends CoffeeDecorator {
     
     @Override
     public double getCost() {
-        return decoratedCoffee.getCost() + 10.0;
+        return Money.toMajor(getCostMinor());
+    }
+    
+    @Override
+    public long getCostMinor() {
+        return Money.add(decoratedCoffee.getCostMinor(), 10_00);
     }
 }
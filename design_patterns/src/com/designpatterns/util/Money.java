@@ -0,0 +1,54 @@
+package com.designpatterns.util;
+
+// Money as a primitive long of minor units (paise), so sums stay exact and nothing is allocated.
+// Arithmetic throws ArithmeticException on overflow instead of wrapping.
+public final class Money {
+    public static final long MINOR_PER_MAJOR = 100;
+    private static final double MAX_MAJOR = (double) Long.MAX_VALUE / MINOR_PER_MAJOR;
+    
+    private Money() {
+    }
+    
+    // Rounds to the nearest paisa
+    public static long ofMajor(double major) {
+        if (!canRepresent(major)) {
+            throw new ArithmeticException("Amount cannot be represented in minor units: " + major);
+        }
+        return Math.round(major * MINOR_PER_MAJOR);
+    }
+    
+    public static boolean canRepresent(double major) {
+        return !Double.isNaN(major) && Math.abs(major) < MAX_MAJOR;
+    }
+    
+    public static double toMajor(long minor) {
+        return (double) minor / MINOR_PER_MAJOR;
+    }
+    
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+    
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+    
+    public static long multiply(long minor, long quantity) {
+        return Math.multiplyExact(minor, quantity);
+    }
+    
+    // For rates such as tax or discount; the result is rounded to the nearest paisa
+    public static long multiply(long minor, double factor) {
+        double product = minor * factor;
+        if (Double.isNaN(product) || Math.abs(product) >= Long.MAX_VALUE) {
+            throw new ArithmeticException("Amount overflows minor units");
+        }
+        return Math.round(product);
+    }
+    
+    public static String format(long minor) {
+        long absolute = Math.abs(minor);
+        long fraction = absolute % MINOR_PER_MAJOR;
+        return (minor < 0 ? "-₹" : "₹") + absolute / MINOR_PER_MAJOR + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+}